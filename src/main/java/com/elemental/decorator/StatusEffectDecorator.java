@@ -1,11 +1,15 @@
 package com.elemental.decorator;
 
 import com.elemental.model.Character;
+import com.elemental.model.StatusEffectEngine;
 import com.elemental.model.StatusEffectType;
 
 /**
  * FR-BATTLE-004: Status Effect Decorator Pattern
- * Base decorator for applying status effects to characters
+ * Base decorator for applying status effects to characters.
+ * Damage ticks use the same rule as battles ({@link StatusEffectEngine#tickDamage}).
+ * Battles do not create decorators: they apply effects through Character.applyStatusEffect,
+ * which follows the data in StatusEffectDefinition and allocates nothing.
  */
 public abstract class StatusEffectDecorator {
     protected Character character;
@@ -76,7 +80,7 @@ class PoisonEffect extends StatusEffectDecorator {
 
     @Override
     public void tick() {
-        int damage = (int) (character.getMaxHP() * 0.05);
+        int damage = StatusEffectEngine.tickDamage(StatusEffectType.POISON, character.getMaxHP());
         character.takeDamage(damage);
     }
 
@@ -101,7 +105,7 @@ class BurnEffect extends StatusEffectDecorator {
 
     @Override
     public void tick() {
-        int damage = (int) (character.getMaxHP() * 0.07);
+        int damage = StatusEffectEngine.tickDamage(StatusEffectType.BURN, character.getMaxHP());
         character.takeDamage(damage);
     }
 
@@ -4,13 +4,13 @@ import com.elemental.model.Character;
 import com.elemental.model.CharacterClass;
 import com.elemental.model.Element;
 
-import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * Factory for creating enemy characters
  */
 public class EnemyFactory {
-    private static final Random random = new Random();
     private static final String[] ENEMY_NAMES = {
             "Goblin", "Orc", "Troll", "Skeleton", "Zombie",
             "Bandit", "Assassin", "Witch", "Warlock", "Knight",
@@ -25,16 +25,21 @@ public class EnemyFactory {
      * Create a random enemy at specified level
      */
     public static Character createEnemy(int level) {
-        String name = getRandomEnemyName();
-        CharacterClass enemyClass = getRandomClass();
-        Element element = getRandomElement();
+        return createEnemy(level, ThreadLocalRandom.current());
+    }
+
+    /**
+     * Create a random enemy at specified level using the given random source
+     */
+    public static Character createEnemy(int level, RandomGenerator rng) {
+        String name = getRandomEnemyName(rng);
+        CharacterClass enemyClass = getRandomClass(rng);
+        Element element = getRandomElement(rng);
 
         Character enemy = CharacterFactory.createCharacter(enemyClass, name, element);
 
         // Level up enemy to specified level
-        for (int i = 1; i < level; i++) {
-            enemy.gainExperience(enemy.getLevel() * 100);
-        }
+        enemy.gainLevels(level - 1);
 
         // --- BALANCING NERF ---
         // Kurangi attack musuh agar tidak terlalu sakit (unplayable)
@@ -49,9 +54,7 @@ public class EnemyFactory {
     public static Character createEnemy(String name, CharacterClass characterClass, Element element, int level) {
         Character enemy = CharacterFactory.createCharacter(characterClass, name, element);
 
-        for (int i = 1; i < level; i++) {
-            enemy.gainExperience(enemy.getLevel() * 100);
-        }
+        enemy.gainLevels(level - 1);
 
         // --- BALANCING NERF ---
         enemy.setAttack((int) (enemy.getAttack() * ENEMY_DAMAGE_NERF));
@@ -63,15 +66,20 @@ public class EnemyFactory {
      * Create a boss enemy (higher stats)
      */
     public static Character createBoss(String name, int level) {
-        CharacterClass bossClass = getRandomClass();
-        Element element = getRandomElement();
+        return createBoss(name, level, ThreadLocalRandom.current());
+    }
+
+    /**
+     * Create a boss enemy using the given random source
+     */
+    public static Character createBoss(String name, int level, RandomGenerator rng) {
+        CharacterClass bossClass = getRandomClass(rng);
+        Element element = getRandomElement(rng);
 
         Character boss = CharacterFactory.createCharacter(bossClass, name, element);
 
         // Level up
-        for (int i = 1; i < level; i++) {
-            boss.gainExperience(boss.getLevel() * 100);
-        }
+        boss.gainLevels(level - 1);
 
         // Mark as boss
         boss.setIsBoss(true);
@@ -82,16 +90,16 @@ public class EnemyFactory {
         return boss;
     }
 
-    private static String getRandomEnemyName() {
+    private static String getRandomEnemyName(RandomGenerator random) {
         return ENEMY_NAMES[random.nextInt(ENEMY_NAMES.length)];
     }
 
-    private static CharacterClass getRandomClass() {
+    private static CharacterClass getRandomClass(RandomGenerator random) {
         CharacterClass[] classes = CharacterClass.values();
         return classes[random.nextInt(classes.length)];
     }
 
-    private static Element getRandomElement() {
+    private static Element getRandomElement(RandomGenerator random) {
         Element[] elements = Element.values();
         return elements[random.nextInt(elements.length)];
     }
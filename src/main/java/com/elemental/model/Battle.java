@@ -1,12 +1,15 @@
 package com.elemental.model;
 
 import com.elemental.observer.BattleObserver;
+import com.elemental.util.BattleRandom;
 
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.PriorityQueue;
-import java.util.Random;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * FR-BATTLE-001: Battle Initialization
@@ -14,23 +17,42 @@ import java.util.Random;
  * FR-BATTLE-005: Victory/Defeat
  */
 public class Battle {
-    private List<Character> playerTeam;
-    private List<Character> enemyTeam;
+    private TeamView playerTeam;
+    private TeamView enemyTeam;
     private BattleStatus battleStatus;
     private BattleLog battleLog;
-    private PriorityQueue<Character> turnOrder;
+    private TurnScheduler turnOrder;
     private int turnNumber;
     private Character currentTurn;
-    private Random random;
+    private boolean turnPending; // currentTurn has not executed its action yet
+    private final DamageOutcome damageOutcome = new DamageOutcome(); // Reused for every hit
+    private BattleRandom random; // Per-battle RNG, same seed = same battle
+    private boolean rewardsEnabled; // false for headless simulations (no EXP, no global inventory drops)
+    private Inventory inventory;    // null = global Inventory
+    private BattleJournal journal;  // Optional binary recording of this battle
 
     // Observer Pattern - List of observers
     private List<BattleObserver> observers;
 
     public Battle() {
+        this(new BattleRandom());
+    }
+
+    /**
+     * Create a reproducible battle: the same seed and the same actions
+     * always produce the same battle.
+     */
+    public Battle(long seed) {
+        this(new BattleRandom(seed));
+    }
+
+    public Battle(BattleRandom random) {
         this.battleLog = new BattleLog();
         this.battleStatus = BattleStatus.ONGOING;
         this.turnNumber = 0;
-        this.random = new Random();
+        this.random = random;
+        this.turnOrder = new TurnScheduler();
+        this.rewardsEnabled = true;
         this.observers = new ArrayList<>();
     }
 
@@ -150,75 +172,65 @@ public class Battle {
      * FR-BATTLE-001: Initialize battle with teams
      */
     public void initializeBattle(List<Character> playerTeam, List<Character> enemyTeam) {
-        this.playerTeam = new ArrayList<>(playerTeam);
-        this.enemyTeam = new ArrayList<>(enemyTeam);
+        // Team views track alive counts and target indexes from the characters' change events
+        this.playerTeam = new TeamView(playerTeam);
+        this.enemyTeam = new TeamView(enemyTeam);
         this.battleStatus = BattleStatus.ONGOING;
         this.turnNumber = 0;
+        this.turnPending = false;
 
-        // Calculate turn order based on Speed (highest first)
-        calculateTurnOrder();
-
-        battleLog.log("=== BATTLE START ===");
-        battleLog.log("Player Team:");
-        for (Character c : playerTeam) {
-            battleLog.log("  - " + c.toString());
-        }
-        battleLog.log("Enemy Team:");
-        for (Character e : enemyTeam) {
-            battleLog.log("  - " + e.toString());
+        if (journal != null) {
+            journal.recordStart(this.playerTeam, this.enemyTeam, random.getState(), getInventory());
         }
-        battleLog.log("==================");
 
-        // Notify observers bahwa battle dimulai
-        notifyBattleStart();
-    }
-
-    /**
-     * Calculate turn order based on character speed (modified by buffs)
-     */
-    private void calculateTurnOrder() {
-        turnOrder = new PriorityQueue<>(
-                Comparator.comparingInt(Character::getModifiedSpeed).reversed()
-        );
-
-        // Add all alive characters
-        for (Character c : playerTeam) {
-            if (c.isAlive()) {
-                turnOrder.add(c);
+        // Calculate turn order based on Speed (highest first)
+        turnOrder.reset(this.playerTeam, this.enemyTeam);
+        turnOrder.startRound();
+
+        if (battleLog.isEnabled()) {
+            battleLog.log("=== BATTLE START ===");
+            battleLog.log("Player Team:");
+            for (Character c : playerTeam) {
+                battleLog.log("  - " + c.toString());
             }
-        }
-        for (Character e : enemyTeam) {
-            if (e.isAlive()) {
-                turnOrder.add(e);
+            battleLog.log("Enemy Team:");
+            for (Character e : enemyTeam) {
+                battleLog.log("  - " + e.toString());
             }
+            battleLog.log("==================");
         }
+
+        // Notify observers bahwa battle dimulai
+        notifyBattleStart();
     }
 
     /**
      * Get next character in turn order
      */
     public Character getNextTurn() {
-        // Rebuild turn order if empty
-        if (turnOrder.isEmpty()) {
-            calculateTurnOrder();
-            turnNumber++;
+        if (journal != null) {
+            journal.recordTurnStart();
         }
 
-        // Skip dead or stunned characters
-        while (!turnOrder.isEmpty()) {
-            Character next = turnOrder.poll();
-
-            if (!next.isAlive()) {
-                continue;
-            }
+        // Start a new round if everyone has acted
+        if (turnOrder.isRoundOver()) {
+            turnOrder.startRound();
+            turnNumber++;
+        }
 
+        // Dead characters are skipped by the scheduler, stunned ones here
+        Character next;
+        while ((next = turnOrder.next()) != null) {
             // Check if stunned
             if (next.hasStatusEffect(StatusEffectType.STUN)) {
-                battleLog.log(next.getName() + " is stunned and cannot act!");
+                if (battleLog.isEnabled()) {
+                    battleLog.log(next.getName() + " is stunned and cannot act!");
+                }
                 continue;
             }
 
             currentTurn = next;
+            turnPending = true;
             battleLog.logTurnStart(next, turnNumber);
 
             // Reset defending state at start of turn
@@ -233,6 +245,25 @@ public class Battle {
         return null;
     }
 
+    /**
+     * Turn order forecast: the actors of the next n turns, across round boundaries.
+     * Computed from the scheduler's cached order (nothing is drained or re-queued).
+     * Takes modified speed, stun skips and SPEED_BUFF expiry into account, assuming
+     * nobody dies and no new effects are applied in the meantime.
+     * @return up to n characters, fewer if nobody can act any more
+     */
+    public List<Character> forecastTurns(int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("n cannot be negative!");
+        }
+        if (n == 0 || battleStatus != BattleStatus.ONGOING) {
+            return Collections.emptyList();
+        }
+        Character[] turns = new Character[n];
+        int count = turnOrder.forecast(turnPending ? currentTurn : null, turns);
+        return Collections.unmodifiableList(Arrays.asList(turns).subList(0, count));
+    }
+
     /**
      * FR-BATTLE-002: Execute battle action
      */
@@ -241,6 +272,10 @@ public class Battle {
         Character target = action.getTarget();
         ActionType actionType = action.getActionType();
 
+        if (journal != null) {
+            recordAction(action);
+        }
+
         battleLog.logAction(actor, actionType);
 
         switch (actionType) {
@@ -264,17 +299,135 @@ public class Battle {
 
         // Process status effects at end of turn
         processEndOfTurn(actor);
+        if (actor == currentTurn) {
+            turnPending = false;
+        }
 
         // Check battle end
         checkBattleEnd();
     }
 
+    /**
+     * Write an action to the journal using combatant/skill indices and the item name
+     */
+    private void recordAction(BattleAction action) {
+        Character actor = action.getActor();
+        int skillIndex = action.getSkill() != null ? actor.getSkills().indexOf(action.getSkill()) : -1;
+        String itemName = action.getItem() != null ? action.getItem().getName() : null;
+        journal.recordAction(indexOfCombatant(actor), action.getActionType(),
+                indexOfCombatant(action.getTarget()), skillIndex, itemName);
+    }
+
+    /**
+     * Index of a character in player team + enemy team order, -1 if not in this battle
+     */
+    private int indexOfCombatant(Character character) {
+        if (character == null) {
+            return -1;
+        }
+        int index = playerTeam.indexOf(character);
+        if (index >= 0) {
+            return index;
+        }
+        index = enemyTeam.indexOf(character);
+        return index >= 0 ? playerTeam.size() + index : -1;
+    }
+
+    // ==================== SNAPSHOT / RESTORE ====================
+
+    /**
+     * Capture the mutable battle state into a new flat snapshot
+     */
+    public BattleSnapshot snapshot() {
+        return snapshot(new BattleSnapshot());
+    }
+
+    /**
+     * Capture the mutable battle state into an existing snapshot (reused, no allocation
+     * once its array is large enough)
+     */
+    public BattleSnapshot snapshot(BattleSnapshot into) {
+        int combatants = playerTeam.size() + enemyTeam.size();
+        into.ensureCapacity(combatants * Character.STATE_SIZE + turnOrder.stateSize());
+
+        int offset = 0;
+        for (Character c : playerTeam) {
+            offset = c.writeState(into.state, offset);
+        }
+        for (Character e : enemyTeam) {
+            offset = e.writeState(into.state, offset);
+        }
+        turnOrder.writeState(into.state, offset);
+
+        into.combatantCount = combatants;
+        into.turnNumber = turnNumber;
+        into.currentTurnIndex = indexOfCombatant(currentTurn);
+        into.turnPending = turnPending;
+        into.battleStatus = battleStatus;
+        into.rngState = random.getState();
+        return into;
+    }
+
+    /**
+     * Roll this battle back (or forward) to a snapshot taken from it.
+     * Observers are not notified and nothing is logged or journaled.
+     * Only for exploration: a journaled battle cannot be restored (the replay would diverge),
+     * and with rewards on, a decided battle cannot be reopened (rewards and onBattleEnd
+     * would happen twice).
+     */
+    public void restore(BattleSnapshot snapshot) {
+        int combatants = playerTeam.size() + enemyTeam.size();
+        if (snapshot.combatantCount != combatants) {
+            throw new IllegalArgumentException("Snapshot does not belong to this battle!");
+        }
+        if (journal != null) {
+            throw new IllegalStateException("Cannot restore a journaled battle!");
+        }
+        if (rewardsEnabled && (battleStatus != BattleStatus.ONGOING
+                || snapshot.battleStatus != BattleStatus.ONGOING)) {
+            throw new IllegalStateException("Cannot restore across the end of a battle with rewards!");
+        }
+
+        int offset = 0;
+        for (Character c : playerTeam) {
+            offset = c.readState(snapshot.state, offset);
+        }
+        for (Character e : enemyTeam) {
+            offset = e.readState(snapshot.state, offset);
+        }
+        turnOrder.readState(snapshot.state, offset);
+
+        playerTeam.refresh();
+        enemyTeam.refresh();
+
+        turnNumber = snapshot.turnNumber;
+        currentTurn = combatantAt(snapshot.currentTurnIndex);
+        turnPending = snapshot.turnPending;
+        battleStatus = snapshot.battleStatus;
+        random.setState(snapshot.rngState);
+    }
+
+    /**
+     * Combatant by index (player team first, then enemy team), null for -1
+     */
+    private Character combatantAt(int index) {
+        if (index < 0) {
+            return null;
+        }
+        if (index < playerTeam.size()) {
+            return playerTeam.get(index);
+        }
+        return enemyTeam.get(index - playerTeam.size());
+    }
+
     /**
      * Execute basic attack
      */
     private void executeAttack(Character attacker, Character defender) {
-        int damage = DamageCalculator.calculateBasicAttack(attacker, defender);
-        boolean isCritical = DamageCalculator.isCritical();
+        // Single pass: damage, critical (rolled once), effectiveness
+        DamageOutcome outcome = DamageCalculator.resolve(attacker, defender, null, random, damageOutcome);
+        int damage = outcome.getDamage();
+        boolean isCritical = outcome.isCritical();
 
         int oldHP = defender.getCurrentHP();
         defender.takeDamage(damage);
@@ -286,12 +439,7 @@ public class Battle {
         notifyAttack(attacker, defender, damage, isCritical);
         notifyHPChange(defender, oldHP, newHP);
 
-        String elementAdvantage = DamageCalculator.getElementAdvantage(
-                attacker.getElement(), defender.getElement()
-        );
-        if (!elementAdvantage.isEmpty()) {
-            battleLog.logElementAdvantage(elementAdvantage);
-        }
+        battleLog.logEffectiveness(outcome.getEffectiveness());
 
         if (!defender.isAlive()) {
             battleLog.logDeath(defender);
@@ -309,7 +457,9 @@ public class Battle {
         }
 
         if (!user.canUseSkill(skill)) {
-            battleLog.log(user.getName() + " cannot use " + skill.getName() + "!");
+            if (battleLog.isEnabled()) {
+                battleLog.log(user.getName() + " cannot use " + skill.getName() + "!");
+            }
             return;
         }
 
@@ -323,8 +473,9 @@ public class Battle {
         // Execute skill based on type
         switch (skill.getSkillType()) {
             case DAMAGE:
-                int damage = DamageCalculator.calculateDamage(user, target, skill);
-                boolean isCritical = DamageCalculator.isCritical();
+                DamageOutcome outcome = DamageCalculator.resolve(user, target, skill, random, damageOutcome);
+                int damage = outcome.getDamage();
+                boolean isCritical = outcome.isCritical();
                 int oldHP = target.getCurrentHP();
                 target.takeDamage(damage);
                 int newHP = target.getCurrentHP();
@@ -335,16 +486,10 @@ public class Battle {
                 notifyHPChange(target, oldHP, newHP);
 
                 // Element Advantage for Skills
-                Element attackElement = skill.getElement() != null ? skill.getElement() : user.getElement();
-                String elementAdvantage = DamageCalculator.getElementAdvantage(
-                        attackElement, target.getElement()
-                );
-                if (!elementAdvantage.isEmpty()) {
-                    battleLog.logElementAdvantage(elementAdvantage);
-                }
+                battleLog.logEffectiveness(outcome.getEffectiveness());
 
-                // Apply secondary effects based on skill name
-                applySkillSecondaryEffects(user, target, skill);
+                // Apply secondary effect (stun, poison, burn ...)
+                applySkillEffect(user, target, skill);
 
                 if (!target.isAlive()) {
                     battleLog.logDeath(target);
@@ -355,65 +500,33 @@ public class Battle {
             case HEAL:
                 int healAmount = (int) (user.getMaxMP() * skill.getDamageMultiplier());
                 user.restoreMP(healAmount);
-                battleLog.log(user.getName() + " restored " + healAmount + " MP!");
+                if (battleLog.isEnabled()) {
+                    battleLog.log(user.getName() + " restored " + healAmount + " MP!");
+                }
                 break;
 
             case BUFF:
-                applyBuffEffect(user, skill);
-                break;
-
             case DEBUFF:
-                applyDebuffEffect(user, target, skill);
+                applySkillEffect(user, target, skill);
                 break;
         }
     }
 
     /**
-     * Apply secondary effects from skills
+     * Apply the skill's secondary effect (resolved when the skill was built)
      */
-    private void applySkillSecondaryEffects(Character user, Character target, Skill skill) {
-        String skillName = skill.getName();
-
-        if (skillName.equals("Shield Bash")) {
-            // 30% chance to stun
-            if (Math.random() < 0.3) {
-                target.applyStatusEffect(StatusEffectType.STUN, 1);
-                battleLog.logStatusEffect(target, StatusEffectType.STUN, 1);
-            }
-        } else if (skillName.equals("Poison Arrow")) {
-            target.applyStatusEffect(StatusEffectType.POISON, 3);
-            battleLog.logStatusEffect(target, StatusEffectType.POISON, 3);
-        } else if (skillName.contains("Fire") || skillName.contains("Flame")) {
-            // 20% chance to burn
-            if (Math.random() < 0.2) {
-                target.applyStatusEffect(StatusEffectType.BURN, 2);
-                battleLog.logStatusEffect(target, StatusEffectType.BURN, 2);
-            }
+    private void applySkillEffect(Character user, Character target, Skill skill) {
+        SkillEffect effect = skill.getEffect();
+        if (effect.isNone()) {
+            return;
         }
-    }
-
-    /**
-     * Apply buff effects
-     */
-    private void applyBuffEffect(Character user, Skill skill) {
-        String skillName = skill.getName();
-
-        if (skillName.equals("Iron Defense")) {
-            user.applyStatusEffect(StatusEffectType.SHIELDED, 2);
-            battleLog.logStatusEffect(user, StatusEffectType.SHIELDED, 2);
-        } else if (skillName.equals("Quick Step")) {
-            user.applyStatusEffect(StatusEffectType.SPEED_BUFF, 3);
-            battleLog.logStatusEffect(user, StatusEffectType.SPEED_BUFF, 3);
+        Character receiver = effect.isOnSelf() ? user : target;
+        if (receiver != null && effect.procs(random)) {
+            receiver.applyStatusEffect(effect.getStatusEffect(), effect.getDuration());
+            battleLog.logStatusEffect(receiver, effect.getStatusEffect(), effect.getDuration());
         }
     }
 
-    /**
-     * Apply debuff effects
-     */
-    private void applyDebuffEffect(Character user, Character target, Skill skill) {
-        // Additional debuff logic can be added here
-    }
-
     /**
      * Execute defend action
      */
@@ -435,22 +548,26 @@ public class Battle {
             return;
         }
 
-        // Gunakan Singleton Inventory
-        Inventory globalInv = Inventory.getInstance();
+        // Gunakan Singleton Inventory (atau inventory khusus untuk replay)
+        Inventory globalInv = getInventory();
 
         // Cek stok di inventory global
         if (!globalInv.hasItem(item.getName())) {
-            battleLog.log(item.getName() + " not available!");
+            if (battleLog.isEnabled()) {
+                battleLog.log(item.getName() + " not available!");
+            }
             return;
         }
 
         // Cek validitas target
         if (!item.canUse(target)) {
-            String reason = target.isAlive() ? "invalid target" : "cannot use on dead ally";
-            if (item.getTargetType() == ItemTarget.DEAD_ALLY && target.isAlive()) {
-                reason = "can only be used on dead allies";
+            if (battleLog.isEnabled()) {
+                String reason = target.isAlive() ? "invalid target" : "cannot use on dead ally";
+                if (item.getTargetType() == ItemTarget.DEAD_ALLY && target.isAlive()) {
+                    reason = "can only be used on dead allies";
+                }
+                battleLog.log("Cannot use " + item.getName() + " - " + reason + "!");
             }
-            battleLog.log("Cannot use " + item.getName() + " - " + reason + "!");
             return;
         }
 
@@ -463,66 +580,53 @@ public class Battle {
             notifyItemUsed(user, item, target);
 
             // Log spesifik efek item
-            switch (item.getEffect()) {
-                case RESTORE_HP:
-                    battleLog.log(target.getName() + " recovered HP!");
-                    break;
-                case RESTORE_MP:
-                    battleLog.log(target.getName() + " recovered MP!");
-                    break;
-                case RESTORE_BOTH:
-                    battleLog.log(target.getName() + " recovered HP and MP!");
-                    break;
-                case BOOST_ATTACK:
-                    battleLog.log(target.getName() + "'s Attack increased!");
-                    break;
-                case BOOST_DEFENSE:
-                    battleLog.log(target.getName() + "'s Defense increased!");
-                    break;
-                case CURE_STATUS:
-                    battleLog.log(target.getName() + " was cured of negative status!");
-                    break;
-                case REVIVE:
-                    if (target.isAlive()) {
-                        battleLog.log(target.getName() + " was revived!");
-                    }
-                    break;
+            if (battleLog.isEnabled()) {
+                logItemEffect(target, item);
             }
-        } else {
+        } else if (battleLog.isEnabled()) {
             battleLog.log("Failed to use " + item.getName() + "!");
         }
     }
 
+    /**
+     * Log the specific effect of a used item (only called with the log on)
+     */
+    private void logItemEffect(Character target, Item item) {
+        switch (item.getEffect()) {
+            case RESTORE_HP:
+                battleLog.log(target.getName() + " recovered HP!");
+                break;
+            case RESTORE_MP:
+                battleLog.log(target.getName() + " recovered MP!");
+                break;
+            case RESTORE_BOTH:
+                battleLog.log(target.getName() + " recovered HP and MP!");
+                break;
+            case BOOST_ATTACK:
+                battleLog.log(target.getName() + "'s Attack increased!");
+                break;
+            case BOOST_DEFENSE:
+                battleLog.log(target.getName() + "'s Defense increased!");
+                break;
+            case CURE_STATUS:
+                battleLog.log(target.getName() + " was cured of negative status!");
+                break;
+            case REVIVE:
+                if (target.isAlive()) {
+                    battleLog.log(target.getName() + " was revived!");
+                }
+                break;
+        }
+    }
+
     /**
      * Process status effects at end of turn
      */
     private void processEndOfTurn(Character character) {
         if (!character.isAlive()) return;
 
-        // Process active status effects
-        for (StatusEffectType effectType : character.getActiveStatusEffects().keySet()) {
-            int duration = character.getStatusEffectDuration(effectType);
-
-            switch (effectType) {
-                case POISON:
-                    int poisonDamage = (int) (character.getMaxHP() * 0.05);
-                    character.takeDamage(poisonDamage);
-                    battleLog.logStatusDamage(character, StatusEffectType.POISON, poisonDamage);
-                    break;
-                case BURN:
-                    int burnDamage = (int) (character.getMaxHP() * 0.07);
-                    character.takeDamage(burnDamage);
-                    battleLog.logStatusDamage(character, StatusEffectType.BURN, burnDamage);
-                    break;
-            }
-
-            if (!character.isAlive()) {
-                battleLog.logDeath(character);
-            }
-        }
-
-        // Decrement status effect durations
-        character.processStatusEffects();
+        // Damage over time (once per effect) and expiry of the effects due this turn
+        character.processStatusEffects(battleLog);
 
         // Process Item Buffs
         character.processItemBuffs();
@@ -532,22 +636,24 @@ public class Battle {
      * FR-BATTLE-005: Check battle end condition
      */
     public BattleStatus checkBattleEnd() {
-        boolean allPlayersDead = playerTeam.stream().noneMatch(Character::isAlive);
-        boolean allEnemiesDead = enemyTeam.stream().noneMatch(Character::isAlive);
+        // The end state is latched: victory/defeat (and rewards) happen only once
+        if (battleStatus != BattleStatus.ONGOING) {
+            return battleStatus;
+        }
 
-        if (allEnemiesDead) {
+        if (enemyTeam.getAliveCount() == 0) {
             battleStatus = BattleStatus.VICTORY;
             battleLog.logVictory();
-            giveRewards();
+            if (rewardsEnabled) {
+                giveRewards();
+            }
             // Notify observers bahwa battle berakhir dengan Victory
             notifyBattleEnd(battleStatus);
-        } else if (allPlayersDead) {
+        } else if (playerTeam.getAliveCount() == 0) {
             battleStatus = BattleStatus.DEFEAT;
             battleLog.logDefeat();
             // Notify observers bahwa battle berakhir dengan Defeat
             notifyBattleEnd(battleStatus);
-        } else {
-            battleStatus = BattleStatus.ONGOING;
         }
 
         return battleStatus;
@@ -593,46 +699,75 @@ public class Battle {
 
         // --- ITEM DROPS SYSTEM ---
         battleLog.log("\n=== ITEM DROPS ===");
-        for (Character enemy : enemyTeam) {
-            dropItems(enemy);
-        }
+        dropItems();
     }
 
     /**
-     * Drop items from enemies to Global Inventory
+     * Roll every enemy's drop from its loot table and add them to the inventory as one batch
      */
-    private void dropItems(Character enemy) {
-        Inventory globalInv = Inventory.getInstance();
-        double dropChance = random.nextDouble();
+    private void dropItems() {
+        LootTable.Entry[] drops = new LootTable.Entry[enemyTeam.size()];
+        Map<String, Integer> batch = new LinkedHashMap<>();
+        for (int i = 0; i < drops.length; i++) {
+            drops[i] = LootTable.forEnemy(enemyTeam.get(i)).roll(random);
+            batch.merge(drops[i].getItem(), 1, Integer::sum);
+        }
 
-        if (dropChance < 0.6) {
-            // 60% chance common items
-            String item = random.nextBoolean() ? "Health Potion" : "Mana Potion";
-            if (globalInv.addItem(item, 1)) {
-                battleLog.log(enemy.getName() + " dropped " + item + "!");
-            }
-        } else if (dropChance < 0.9) {
-            // 30% chance medium items
-            String[] mediumItems = {"Elixir", "Attack Boost", "Defense Boost", "Antidote"};
-            String item = mediumItems[random.nextInt(mediumItems.length)];
-            if (globalInv.addItem(item, 1)) {
-                battleLog.log(enemy.getName() + " dropped " + item + "!");
-            }
-        } else {
-            // 10% chance rare items
-            if (globalInv.addItem("Revive", 1)) {
-                battleLog.log(enemy.getName() + " dropped Revive! (RARE)");
+        Set<String> rejected = getInventory().addItems(batch);
+
+        if (battleLog.isEnabled()) {
+            for (int i = 0; i < drops.length; i++) {
+                if (!rejected.contains(drops[i].getItem())) {
+                    battleLog.log(enemyTeam.get(i).getName() + " dropped " + drops[i].getItem()
+                            + (drops[i].isRare() ? "! (RARE)" : "!"));
+                }
             }
         }
     }
 
     // Getters
-    public List<Character> getPlayerTeam() {
-        return new ArrayList<>(playerTeam);
+
+    /**
+     * Read-only live view of the player team (no copy)
+     */
+    public TeamView getPlayerTeam() {
+        return playerTeam;
+    }
+
+    /**
+     * Read-only live view of the enemy team (no copy)
+     */
+    public TeamView getEnemyTeam() {
+        return enemyTeam;
+    }
+
+    /**
+     * Inventory used for items and drops: the global one unless a standalone one was set
+     */
+    public Inventory getInventory() {
+        return inventory != null ? inventory : Inventory.getInstance();
     }
 
-    public List<Character> getEnemyTeam() {
-        return new ArrayList<>(enemyTeam);
+    public void setInventory(Inventory inventory) {
+        this.inventory = inventory;
+    }
+
+    /**
+     * Record this battle into a journal. Must be set before initializeBattle().
+     */
+    public void setJournal(BattleJournal journal) {
+        this.journal = journal;
+    }
+
+    public BattleJournal getJournal() {
+        return journal;
+    }
+
+    /**
+     * Random source of this battle (for seeding AIs or capturing state)
+     */
+    public BattleRandom getRandom() {
+        return random;
     }
 
     public BattleStatus getBattleStatus() {
@@ -651,6 +786,25 @@ public class Battle {
         return currentTurn;
     }
 
+    /**
+     * True while the current turn's character has not executed its action yet
+     */
+    public boolean isTurnPending() {
+        return turnPending;
+    }
+
+    /**
+     * Enable/disable EXP and item drop rewards on victory.
+     * Headless simulations turn this off so they never touch the global Inventory.
+     */
+    public void setRewardsEnabled(boolean rewardsEnabled) {
+        this.rewardsEnabled = rewardsEnabled;
+    }
+
+    public boolean isRewardsEnabled() {
+        return rewardsEnabled;
+    }
+
     public boolean isPlayerTurn(Character character) {
         return playerTeam.contains(character);
     }
@@ -0,0 +1,211 @@
+package com.elemental.model;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Event-sourced battle journal.
+ * Records a battle as a compact binary stream: the initial team snapshot,
+ * the RNG state, the starting inventory, and then one entry per turn start
+ * and per executed action. Numbers are varint encoded, so a typical battle
+ * takes a few hundred bytes. {@link BattleReplayer} rebuilds the battle
+ * state at any point of the stream.
+ *
+ * Attach with {@link Battle#setJournal} before {@link Battle#initializeBattle}.
+ */
+public class BattleJournal {
+    static final int FORMAT_VERSION = 6; // 2: one critical roll per hit, 3: buffs and SHIELDED in damage,
+                                         // 4: damage over time ticks once per turn, 5: stacks per status effect,
+                                         // 6: items by name (adding or renaming items keeps old journals valid)
+                                         // (replays of older versions would diverge)
+
+    // Entry opcodes
+    static final int OP_TURN_START = 0;
+    static final int OP_ACTION = 1;
+
+    private byte[] buffer;
+    private int size;
+    private int actionCount;
+    private boolean started;
+
+    public BattleJournal() {
+        this.buffer = new byte[256];
+    }
+
+    /**
+     * Create a journal from recorded bytes (for replay)
+     */
+    public static BattleJournal fromBytes(byte[] data) {
+        BattleJournal journal = new BattleJournal();
+        journal.buffer = Arrays.copyOf(data, Math.max(data.length, 1));
+        journal.size = data.length;
+        journal.started = true;
+        journal.actionCount = BattleReplayer.countActions(journal.buffer, journal.size);
+        return journal;
+    }
+
+    // ==================== RECORDING (called by Battle) ====================
+
+    void recordStart(List<Character> playerTeam, List<Character> enemyTeam,
+                     long rngState, Inventory inventory) {
+        if (started) {
+            throw new IllegalStateException("Journal already recorded a battle!");
+        }
+        started = true;
+
+        writeVarint(FORMAT_VERSION);
+        writeFixedLong(rngState);
+
+        writeVarint(playerTeam.size());
+        writeVarint(enemyTeam.size());
+        for (Character c : playerTeam) {
+            writeCharacter(c);
+        }
+        for (Character e : enemyTeam) {
+            writeCharacter(e);
+        }
+
+        // Starting inventory by item name (sorted, so the same inventory encodes the same),
+        // so item actions replay exactly
+        Map<String, Integer> items = new TreeMap<>(inventory.getAllItems());
+        items.values().removeIf(quantity -> quantity <= 0);
+        writeVarint(items.size());
+        for (Map.Entry<String, Integer> entry : items.entrySet()) {
+            writeString(entry.getKey());
+            writeVarint(entry.getValue());
+        }
+    }
+
+    void recordTurnStart() {
+        writeVarint(OP_TURN_START);
+    }
+
+    /**
+     * @param actorIndex Combatant index (player team first, then enemy team)
+     * @param targetIndex Combatant index of the target, -1 for no target
+     * @param skillIndex Index in the actor's skill list, -1 for none
+     * @param itemName Item name, null for none
+     */
+    void recordAction(int actorIndex, ActionType actionType, int targetIndex, int skillIndex, String itemName) {
+        writeVarint(OP_ACTION);
+        writeVarint(actorIndex);
+        writeVarint(actionType.ordinal());
+        writeVarint(targetIndex + 1);
+        if (actionType == ActionType.SKILL) {
+            writeVarint(skillIndex + 1);
+        } else if (actionType == ActionType.ITEM) {
+            writeString(itemName != null ? itemName : "");
+        }
+        actionCount++;
+    }
+
+    private void writeCharacter(Character c) {
+        writeString(c.getName());
+        writeVarint(c.getCharacterClass().ordinal());
+        writeVarint(c.getElement().ordinal());
+        writeVarint(c.isBoss() ? 1 : 0);
+        writeVarint(c.getLevel());
+        writeVarint(zigzag(c.getExperience()));
+        writeVarint(c.getMaxHP());
+        writeVarint(c.getCurrentHP());
+        writeVarint(c.getMaxMP());
+        writeVarint(c.getCurrentMP());
+        writeVarint(c.getAttack());
+        writeVarint(c.getDefense());
+        writeVarint(c.getSpeed());
+        writeVarint(c.getStatus().ordinal());
+
+        long effects = c.getStatusEffectMask();
+        writeVarint(Long.bitCount(effects));
+        for (; effects != 0; effects &= effects - 1) {
+            StatusEffectType type = StatusEffectType.fromOrdinal(Long.numberOfTrailingZeros(effects));
+            writeVarint(type.ordinal());
+            writeVarint(zigzag(c.getStatusEffectDuration(type)));
+            writeVarint(c.getStatusEffectStacks(type));
+        }
+
+        int buffCount = 0;
+        for (ItemBuffType buffType : ItemBuffType.values()) {
+            buffCount += c.hasItemBuff(buffType) ? 1 : 0;
+        }
+        writeVarint(buffCount);
+        for (ItemBuffType buffType : ItemBuffType.values()) {
+            if (c.hasItemBuff(buffType)) {
+                writeString(buffType.name());
+                writeVarint(zigzag(c.getItemBuffValue(buffType)));
+                writeVarint(zigzag(c.getItemBuffDuration(buffType)));
+            }
+        }
+    }
+
+    // ==================== ENCODING ====================
+
+    private void ensureCapacity(int extra) {
+        if (size + extra > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + extra));
+        }
+    }
+
+    private void writeVarint(int value) {
+        ensureCapacity(5);
+        while ((value & ~0x7F) != 0) {
+            buffer[size++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[size++] = (byte) value;
+    }
+
+    private void writeFixedLong(long value) {
+        ensureCapacity(8);
+        for (int i = 0; i < 8; i++) {
+            buffer[size++] = (byte) (value >>> (8 * i));
+        }
+    }
+
+    private void writeString(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarint(bytes.length);
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, size, bytes.length);
+        size += bytes.length;
+    }
+
+    static int zigzag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    static int unzigzag(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    // ==================== ACCESS ====================
+
+    /**
+     * Encoded journal, safe to archive
+     */
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, size);
+    }
+
+    /**
+     * Encoded size in bytes
+     */
+    public int size() {
+        return size;
+    }
+
+    public int getActionCount() {
+        return actionCount;
+    }
+
+    public boolean isStarted() {
+        return started;
+    }
+
+    byte[] rawBuffer() {
+        return buffer;
+    }
+}
@@ -0,0 +1,657 @@
+package com.elemental.model;
+
+import com.elemental.util.BattleRandom;
+
+import java.util.List;
+
+/**
+ * Data-oriented battle core for bulk simulation.
+ * Runs the same rules as {@link Battle#executeAction} and {@link DamageCalculator},
+ * but keeps every combatant stat in parallel primitive arrays indexed by slot
+ * (player team first, then enemy team), so a battle never touches a Character,
+ * a Map or a List while it runs.
+ *
+ * Load teams with {@link #load}, run with {@link #nextTurn} / {@link #execute},
+ * rewind to the loaded state with {@link #reset(long)} and copy the result back with {@link #copyTo}.
+ * Same seed and same decisions give exactly the same battle as {@link Battle}.
+ * The kernel has no log, no observers, no rewards and no inventory: items are not supported.
+ */
+public class BattleKernel {
+    private static final int EFFECT_COUNT = StatusEffectType.values().length;
+    private static final int BUFF_COUNT = ItemBuffType.values().length; // Same order as Character state
+    private static final int ATTACK_BUFF = ItemBuffType.ATTACK.ordinal();
+    private static final int DEFENSE_BUFF = ItemBuffType.DEFENSE.ordinal();
+    private static final int STATE_SIZE = Character.STATE_SIZE;
+
+    private static final int POISON = StatusEffectType.POISON.ordinal();
+    private static final int STUN = StatusEffectType.STUN.ordinal();
+    private static final int SHIELDED = StatusEffectType.SHIELDED.ordinal();
+
+    private static final int STATUS_NORMAL = Status.NORMAL.ordinal();
+    private static final int STATUS_POISONED = Status.POISONED.ordinal();
+    private static final int STATUS_STUNNED = Status.STUNNED.ordinal();
+    private static final int STATUS_SHIELDED = Status.SHIELDED.ordinal();
+    private static final int STATUS_DEAD = Status.DEAD.ordinal();
+
+    private static final Element[] ELEMENTS = Element.values();
+    private static final double[][] ELEMENT_MODIFIERS = DamageCalculator.ELEMENT_MODIFIERS;
+    private static final DamagePipeline PIPELINE = DamagePipeline.STANDARD;
+
+    private final BattleRandom random;
+    private int size;
+    private int playerCount;
+
+    // Loaded state in Character state layout, used by reset() and copyTo()
+    private int[] template = new int[0];
+    private int[] scratch = new int[STATE_SIZE];
+
+    // Fixed stats
+    private int[] maxHP = new int[0];
+    private int[] maxMP = new int[0];
+    private int[] attack = new int[0];
+    private int[] defense = new int[0];
+    private int[] speed = new int[0];
+    private int[] element = new int[0];
+
+    // Live state
+    private int[] hp = new int[0];
+    private int[] mp = new int[0];
+    private int[] status = new int[0];          // Status ordinal
+    private boolean[] defending = new boolean[0];
+    private int[] effectMask = new int[0];      // Bit per StatusEffectType ordinal
+    private int[] effectTurns = new int[0];     // [slot * EFFECT_COUNT + effect]
+    private int[] effectStacks = new int[0];    // [slot * EFFECT_COUNT + effect], 0 = inactive
+    private int[] buffTurns = new int[0];       // [slot * BUFF_COUNT + buff], 0 = inactive
+    private int[] buffValues = new int[0];
+
+    // Skills: slot owns [skillStart, skillStart + skillCount) of the flat skill arrays
+    private int[] skillStart = new int[0];
+    private int[] skillCount = new int[0];
+    private int[] skillMP = new int[0];
+    private double[] skillMultiplier = new double[0];
+    private SkillType[] skillType = new SkillType[0];
+    private int[] skillElement = new int[0];    // -1 = use the user's element
+    private int[] skillEffect = new int[0];     // Status effect ordinal, -1 = none
+    private double[] skillEffectChance = new double[0];
+    private int[] skillEffectTurns = new int[0];
+    private boolean[] skillEffectOnSelf = new boolean[0];
+
+    // Turn order (same algorithm as TurnScheduler)
+    private int[] order = new int[0];
+    private int[] speedCache = new int[0];
+    private boolean[] eligible = new boolean[0];
+    private int cursor;
+    private boolean dirty;
+
+    private BattleStatus battleStatus;
+    private int turnNumber;
+    private int currentTurn;
+    private long playerDamage;
+    private long enemyDamage;
+
+    public BattleKernel() {
+        this(new BattleRandom());
+    }
+
+    public BattleKernel(BattleRandom random) {
+        this.random = random;
+    }
+
+    // ==================== ADAPTERS ====================
+
+    /**
+     * Load both teams and start the battle (like {@link Battle#initializeBattle}).
+     * Arrays are reused when large enough.
+     */
+    public void load(List<Character> playerTeam, List<Character> enemyTeam) {
+        int total = playerTeam.size() + enemyTeam.size();
+        ensureCapacity(total);
+        size = total;
+        playerCount = playerTeam.size();
+
+        int totalSkills = 0;
+        for (int slot = 0; slot < size; slot++) {
+            totalSkills += combatant(playerTeam, enemyTeam, slot).getSkills().size();
+        }
+        ensureSkillCapacity(totalSkills);
+
+        int nextSkill = 0;
+        for (int slot = 0; slot < size; slot++) {
+            Character c = combatant(playerTeam, enemyTeam, slot);
+            c.writeState(template, slot * STATE_SIZE);
+            element[slot] = c.getElement().ordinal();
+
+            List<Skill> skills = c.getSkills();
+            skillStart[slot] = nextSkill;
+            skillCount[slot] = skills.size();
+            for (Skill skill : skills) {
+                skillMP[nextSkill] = skill.getMpCost();
+                skillMultiplier[nextSkill] = skill.getDamageMultiplier();
+                skillType[nextSkill] = skill.getSkillType();
+                skillElement[nextSkill] = skill.getElement() != null ? skill.getElement().ordinal() : -1;
+                SkillEffect effect = skill.getEffect();
+                skillEffect[nextSkill] = effect.isNone() ? -1 : effect.getStatusEffect().ordinal();
+                skillEffectChance[nextSkill] = effect.getChance();
+                skillEffectTurns[nextSkill] = effect.getDuration();
+                skillEffectOnSelf[nextSkill] = effect.isOnSelf();
+                nextSkill++;
+            }
+        }
+
+        reset();
+    }
+
+    /**
+     * Rewind to the loaded state, keeping the RNG where it is
+     */
+    public void reset() {
+        for (int slot = 0; slot < size; slot++) {
+            int base = slot * STATE_SIZE;
+            maxHP[slot] = template[base + Character.STATE_MAX_HP];
+            hp[slot] = template[base + Character.STATE_HP];
+            maxMP[slot] = template[base + Character.STATE_MAX_MP];
+            mp[slot] = template[base + Character.STATE_MP];
+            attack[slot] = template[base + Character.STATE_ATTACK];
+            defense[slot] = template[base + Character.STATE_DEFENSE];
+            speed[slot] = template[base + Character.STATE_SPEED];
+            status[slot] = template[base + Character.STATE_STATUS];
+            defending[slot] = template[base + Character.STATE_DEFENDING] == 1;
+
+            effectMask[slot] = template[base + Character.STATE_EFFECT_MASK];
+            System.arraycopy(template, base + Character.STATE_EFFECT_MASK + 1,
+                    effectTurns, slot * EFFECT_COUNT, EFFECT_COUNT);
+            System.arraycopy(template, base + Character.STATE_EFFECT_STACKS,
+                    effectStacks, slot * EFFECT_COUNT, EFFECT_COUNT);
+
+            for (int buff = 0; buff < BUFF_COUNT; buff++) {
+                int offset = base + Character.STATE_ITEM_BUFFS + buff * 3;
+                boolean active = template[offset] == 1 && template[offset + 1] > 0;
+                buffTurns[slot * BUFF_COUNT + buff] = active ? template[offset + 1] : 0;
+                buffValues[slot * BUFF_COUNT + buff] = active ? template[offset + 2] : 0;
+            }
+        }
+
+        battleStatus = BattleStatus.ONGOING;
+        turnNumber = 0;
+        currentTurn = -1;
+        playerDamage = 0;
+        enemyDamage = 0;
+
+        for (int slot = 0; slot < size; slot++) {
+            order[slot] = slot;
+            speedCache[slot] = modifiedSpeed(slot);
+        }
+        dirty = true;
+        startRound();
+    }
+
+    /**
+     * Rewind to the loaded state and reseed (same as a new Battle(seed))
+     */
+    public void reset(long seed) {
+        random.setState(seed);
+        reset();
+    }
+
+    /**
+     * Write the current state back into the characters the kernel was loaded from
+     * (or characters with the same skills, in the same order)
+     */
+    public void copyTo(List<Character> playerTeam, List<Character> enemyTeam) {
+        if (playerTeam.size() != playerCount || playerTeam.size() + enemyTeam.size() != size) {
+            throw new IllegalArgumentException("Teams do not match the loaded battle!");
+        }
+
+        for (int slot = 0; slot < size; slot++) {
+            System.arraycopy(template, slot * STATE_SIZE, scratch, 0, STATE_SIZE);
+            scratch[Character.STATE_HP] = hp[slot];
+            scratch[Character.STATE_MP] = mp[slot];
+            scratch[Character.STATE_STATUS] = status[slot];
+            scratch[Character.STATE_DEFENDING] = defending[slot] ? 1 : 0;
+            scratch[Character.STATE_EFFECT_MASK] = effectMask[slot];
+            System.arraycopy(effectTurns, slot * EFFECT_COUNT,
+                    scratch, Character.STATE_EFFECT_MASK + 1, EFFECT_COUNT);
+            System.arraycopy(effectStacks, slot * EFFECT_COUNT,
+                    scratch, Character.STATE_EFFECT_STACKS, EFFECT_COUNT);
+            for (int buff = 0; buff < BUFF_COUNT; buff++) {
+                int offset = Character.STATE_ITEM_BUFFS + buff * 3;
+                int turns = buffTurns[slot * BUFF_COUNT + buff];
+                scratch[offset] = turns > 0 ? 1 : 0;
+                scratch[offset + 1] = turns;
+                scratch[offset + 2] = buffValues[slot * BUFF_COUNT + buff];
+            }
+            combatant(playerTeam, enemyTeam, slot).readState(scratch, 0);
+        }
+    }
+
+    private Character combatant(List<Character> playerTeam, List<Character> enemyTeam, int slot) {
+        return slot < playerTeam.size() ? playerTeam.get(slot) : enemyTeam.get(slot - playerTeam.size());
+    }
+
+    private void ensureCapacity(int total) {
+        if (hp.length >= total) {
+            return;
+        }
+        template = new int[total * STATE_SIZE];
+        maxHP = new int[total];
+        maxMP = new int[total];
+        attack = new int[total];
+        defense = new int[total];
+        speed = new int[total];
+        element = new int[total];
+        hp = new int[total];
+        mp = new int[total];
+        status = new int[total];
+        defending = new boolean[total];
+        effectMask = new int[total];
+        effectTurns = new int[total * EFFECT_COUNT];
+        effectStacks = new int[total * EFFECT_COUNT];
+        buffTurns = new int[total * BUFF_COUNT];
+        buffValues = new int[total * BUFF_COUNT];
+        skillStart = new int[total];
+        skillCount = new int[total];
+        order = new int[total];
+        speedCache = new int[total];
+        eligible = new boolean[total];
+    }
+
+    private void ensureSkillCapacity(int totalSkills) {
+        if (skillMP.length >= totalSkills) {
+            return;
+        }
+        skillMP = new int[totalSkills];
+        skillMultiplier = new double[totalSkills];
+        skillType = new SkillType[totalSkills];
+        skillElement = new int[totalSkills];
+        skillEffect = new int[totalSkills];
+        skillEffectChance = new double[totalSkills];
+        skillEffectTurns = new int[totalSkills];
+        skillEffectOnSelf = new boolean[totalSkills];
+    }
+
+    // ==================== TURN ORDER ====================
+
+    /**
+     * Next slot to act, or -1 when the rest of the round is dead or stunned
+     * (same as {@link Battle#getNextTurn})
+     */
+    public int nextTurn() {
+        if (isRoundOver()) {
+            startRound();
+            turnNumber++;
+        }
+
+        while (cursor < size) {
+            int slot = order[cursor++];
+            if (!eligible[slot] || !isAlive(slot) || hasEffect(slot, STUN)) {
+                continue;
+            }
+            currentTurn = slot;
+            defending[slot] = false;
+            return slot;
+        }
+        return -1;
+    }
+
+    private boolean isRoundOver() {
+        while (cursor < size) {
+            int slot = order[cursor];
+            if (eligible[slot] && isAlive(slot)) {
+                return false;
+            }
+            cursor++;
+        }
+        return true;
+    }
+
+    private void startRound() {
+        for (int slot = 0; slot < size; slot++) {
+            int modified = modifiedSpeed(slot);
+            if (modified != speedCache[slot]) {
+                speedCache[slot] = modified;
+                dirty = true;
+            }
+            eligible[slot] = isAlive(slot);
+        }
+
+        if (dirty) {
+            // Stable insertion sort, highest speed first
+            for (int i = 1; i < size; i++) {
+                int slot = order[i];
+                int slotSpeed = speedCache[slot];
+                int j = i - 1;
+                while (j >= 0 && speedCache[order[j]] < slotSpeed) {
+                    order[j + 1] = order[j];
+                    j--;
+                }
+                order[j + 1] = slot;
+            }
+            dirty = false;
+        }
+        cursor = 0;
+    }
+
+    private int modifiedSpeed(int slot) {
+        return StatusEffectDefinition.modifiedSpeed(speed[slot], effects(slot));
+    }
+
+    // ==================== ACTIONS ====================
+
+    /**
+     * Execute an action, then the actor's end of turn and the battle end check
+     * @param target Target slot, -1 for none
+     * @param skill Index in the actor's skill list (SKILL only)
+     */
+    public void execute(int actor, ActionType actionType, int target, int skill) {
+        switch (actionType) {
+            case ATTACK:
+                executeAttack(actor, target);
+                break;
+            case SKILL:
+                executeSkill(actor, target, skill);
+                break;
+            case DEFEND:
+                defending[actor] = true;
+                break;
+            case ITEM:
+                throw new IllegalArgumentException("Items are not supported by BattleKernel!");
+            case SWITCH:
+                // Team mode only, nothing happens (same as Battle)
+                break;
+        }
+
+        processEndOfTurn(actor);
+        checkBattleEnd();
+    }
+
+    private void executeAttack(int attacker, int defender) {
+        if (defender < 0) {
+            return;
+        }
+        int damage = hit(attacker, defender, 1.0, ELEMENT_MODIFIERS[element[attacker]][element[defender]]);
+        dealDamage(attacker, defender, damage);
+    }
+
+    /**
+     * Same pipeline as DamageCalculator, with item buffs and effect modifiers read from the arrays
+     */
+    private int hit(int attacker, int defender, double multiplier, double elementModifier) {
+        return PIPELINE.apply(attack[attacker], buffValues[attacker * BUFF_COUNT + ATTACK_BUFF],
+                StatusEffectDefinition.attackModifier(effects(attacker)), multiplier, elementModifier,
+                defense[defender], buffValues[defender * BUFF_COUNT + DEFENSE_BUFF],
+                StatusEffectDefinition.defenseModifier(effects(defender)),
+                DamageCalculator.isCritical(random), defending[defender]);
+    }
+
+    private void executeSkill(int user, int target, int skillIndex) {
+        if (!canUseSkill(user, skillIndex)) {
+            return;
+        }
+        int skill = skillStart[user] + skillIndex;
+        mp[user] = Math.max(0, mp[user] - skillMP[skill]);
+
+        switch (skillType[skill]) {
+            case DAMAGE:
+                int attackElement = skillElement[skill] >= 0 ? skillElement[skill] : element[user];
+                int damage = hit(user, target, skillMultiplier[skill], ELEMENT_MODIFIERS[attackElement][element[target]]);
+                dealDamage(user, target, damage);
+                applySkillEffect(user, target, skill);
+                break;
+
+            case HEAL:
+                int healAmount = (int) (maxMP[user] * skillMultiplier[skill]);
+                mp[user] = Math.min(maxMP[user], mp[user] + healAmount);
+                break;
+
+            case BUFF:
+            case DEBUFF:
+                applySkillEffect(user, target, skill);
+                break;
+        }
+    }
+
+    /**
+     * Same as Battle.applySkillEffect: RNG is only drawn for chances below 100%
+     */
+    private void applySkillEffect(int user, int target, int skill) {
+        int effect = skillEffect[skill];
+        if (effect < 0) {
+            return;
+        }
+        int receiver = skillEffectOnSelf[skill] ? user : target;
+        if (receiver >= 0 && (skillEffectChance[skill] >= 1.0 || random.nextDouble() < skillEffectChance[skill])) {
+            applyEffect(receiver, effect, skillEffectTurns[skill]);
+        }
+    }
+
+    private void dealDamage(int attacker, int target, int damage) {
+        takeDamage(target, damage);
+        if (attacker < playerCount) {
+            playerDamage += damage;
+        } else {
+            enemyDamage += damage;
+        }
+    }
+
+    private void takeDamage(int slot, int damage) {
+        hp[slot] = Math.max(0, hp[slot] - damage);
+        if (hp[slot] == 0) {
+            status[slot] = STATUS_DEAD;
+        }
+    }
+
+    /**
+     * Same stack rules as Character.applyStatusEffect
+     */
+    private void applyEffect(int slot, int effect, int duration) {
+        int index = slot * EFFECT_COUNT + effect;
+        if (hasEffect(slot, effect)) {
+            StatusEffectDefinition definition = StatusEffectDefinition.get(StatusEffectType.fromOrdinal(effect));
+            effectTurns[index] = definition.reappliedDuration(effectTurns[index], duration);
+            effectStacks[index] = definition.reappliedStacks(effectStacks[index]);
+        } else {
+            effectMask[slot] |= 1 << effect;
+            effectTurns[index] = duration;
+            effectStacks[index] = 1;
+        }
+        updateStatusFromEffects(slot);
+    }
+
+    private boolean hasEffect(int slot, int effect) {
+        return (effectMask[slot] & (1 << effect)) != 0;
+    }
+
+    private long effects(int slot) {
+        return effectMask[slot] & 0xFFFFFFFFL;
+    }
+
+    private void updateStatusFromEffects(int slot) {
+        if (hasEffect(slot, STUN)) {
+            status[slot] = STATUS_STUNNED;
+        } else if (hasEffect(slot, POISON)) {
+            status[slot] = STATUS_POISONED;
+        } else if (hasEffect(slot, SHIELDED)) {
+            status[slot] = STATUS_SHIELDED;
+        } else if (hp[slot] > 0) {
+            status[slot] = STATUS_NORMAL;
+        }
+    }
+
+    /**
+     * End of turn: damage over time, effect durations and item buffs.
+     * Damage-over-time effects tick once per stack, with the damage of their
+     * {@link StatusEffectDefinition} (same as Character.processStatusEffects).
+     */
+    private void processEndOfTurn(int slot) {
+        if (!isAlive(slot)) {
+            return;
+        }
+
+        int damageOverTime = 0;
+        int base = slot * EFFECT_COUNT;
+        for (long dots = effects(slot) & StatusEffectDefinition.damageOverTimeMask(); dots != 0; dots &= dots - 1) {
+            int effect = Long.numberOfTrailingZeros(dots);
+            damageOverTime += StatusEffectDefinition.get(StatusEffectType.fromOrdinal(effect))
+                    .tickDamage(maxHP[slot], effectStacks[base + effect]);
+        }
+        if (damageOverTime > 0) {
+            takeDamage(slot, damageOverTime);
+        }
+
+        // Only the active effects count down
+        boolean expired = false;
+        for (int effects = effectMask[slot]; effects != 0; effects &= effects - 1) {
+            int effect = Integer.numberOfTrailingZeros(effects);
+            if (--effectTurns[base + effect] <= 0) {
+                effectMask[slot] &= ~(1 << effect);
+                effectTurns[base + effect] = 0;
+                effectStacks[base + effect] = 0;
+                expired = true;
+            }
+        }
+        if (expired) {
+            updateStatusFromEffects(slot);
+        }
+
+        for (int buff = slot * BUFF_COUNT; buff < (slot + 1) * BUFF_COUNT; buff++) {
+            if (buffTurns[buff] > 0 && --buffTurns[buff] == 0) {
+                buffValues[buff] = 0;
+            }
+        }
+    }
+
+    /**
+     * Same end condition as {@link Battle#checkBattleEnd}, without log and rewards.
+     * Latched like Battle: once decided, only reset() reopens the battle.
+     */
+    private void checkBattleEnd() {
+        if (battleStatus != BattleStatus.ONGOING) {
+            return;
+        }
+        if (countAlive(false) == 0) {
+            battleStatus = BattleStatus.VICTORY;
+        } else if (countAlive(true) == 0) {
+            battleStatus = BattleStatus.DEFEAT;
+        }
+    }
+
+    // ==================== QUERIES (for strategies) ====================
+
+    public boolean isAlive(int slot) {
+        return hp[slot] > 0 && status[slot] != STATUS_DEAD;
+    }
+
+    public boolean isPlayerSide(int slot) {
+        return slot < playerCount;
+    }
+
+    /**
+     * Number of alive combatants on one side
+     */
+    public int countAlive(boolean playerSide) {
+        int from = playerSide ? 0 : playerCount;
+        int to = playerSide ? playerCount : size;
+        int alive = 0;
+        for (int slot = from; slot < to; slot++) {
+            if (isAlive(slot)) {
+                alive++;
+            }
+        }
+        return alive;
+    }
+
+    /**
+     * Slot of the n-th alive combatant on one side (team order), -1 if there is none
+     */
+    public int aliveSlot(boolean playerSide, int n) {
+        int from = playerSide ? 0 : playerCount;
+        int to = playerSide ? playerCount : size;
+        for (int slot = from; slot < to; slot++) {
+            if (isAlive(slot) && n-- == 0) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    public int getSkillCount(int slot) {
+        return skillCount[slot];
+    }
+
+    public SkillType getSkillType(int slot, int skillIndex) {
+        return skillType[skillStart[slot] + skillIndex];
+    }
+
+    public int getSkillMpCost(int slot, int skillIndex) {
+        return skillMP[skillStart[slot] + skillIndex];
+    }
+
+    /**
+     * Same check as {@link Character#canUseSkill}
+     */
+    public boolean canUseSkill(int slot, int skillIndex) {
+        return mp[slot] >= skillMP[skillStart[slot] + skillIndex]
+                && status[slot] != STATUS_DEAD && status[slot] != STATUS_STUNNED;
+    }
+
+    public int getHP(int slot) {
+        return hp[slot];
+    }
+
+    public int getMaxHP(int slot) {
+        return maxHP[slot];
+    }
+
+    public int getMP(int slot) {
+        return mp[slot];
+    }
+
+    public Element getElement(int slot) {
+        return ELEMENTS[element[slot]];
+    }
+
+    public boolean hasStatusEffect(int slot, StatusEffectType effectType) {
+        return hasEffect(slot, effectType.ordinal());
+    }
+
+    public int getCombatantCount() {
+        return size;
+    }
+
+    public int getPlayerCount() {
+        return playerCount;
+    }
+
+    public BattleStatus getBattleStatus() {
+        return battleStatus;
+    }
+
+    public int getTurnNumber() {
+        return turnNumber;
+    }
+
+    /**
+     * Slot of the character whose turn it is, -1 before the first turn
+     */
+    public int getCurrentTurn() {
+        return currentTurn;
+    }
+
+    /**
+     * Total damage dealt by the player team (attacks and damage skills)
+     */
+    public long getPlayerDamage() {
+        return playerDamage;
+    }
+
+    /**
+     * Total damage dealt by the enemy team (attacks and damage skills)
+     */
+    public long getEnemyDamage() {
+        return enemyDamage;
+    }
+
+    public BattleRandom getRandom() {
+        return random;
+    }
+}
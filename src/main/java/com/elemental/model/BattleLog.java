@@ -12,10 +12,24 @@ public class BattleLog {
     private static final int MAX_VISIBLE_ENTRIES = 10;
     private LinkedList<String> logEntries;
     private List<BattleLogObserver> observers;
+    private boolean enabled; // false = headless, entries are not formatted or stored
 
     public BattleLog() {
         this.logEntries = new LinkedList<>();
         this.observers = new ArrayList<>();
+        this.enabled = true;
+    }
+
+    /**
+     * Enable/disable logging. A disabled log skips string formatting entirely,
+     * which is what headless simulations want.
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
     }
 
     public void addObserver(BattleLogObserver observer) {
@@ -33,28 +47,34 @@ public class BattleLog {
     }
 
     public void log(String message) {
+        if (!enabled) return;
         logEntries.add(message);
         notifyObservers(message);
     }
 
     public void logTurnStart(Character character, int turnNumber) {
+        if (!enabled) return;
         log(String.format("=== Turn %d: %s's turn ===", turnNumber, character.getName()));
     }
 
     public void logAction(Character actor, ActionType actionType) {
+        if (!enabled) return;
         log(String.format("%s used %s!", actor.getName(), actionType));
     }
 
     public void logDamage(Character attacker, Character target, int damage, boolean isCritical) {
+        if (!enabled) return;
         String critText = isCritical ? " CRITICAL HIT!" : "";
         log(String.format("%s dealt %d damage to %s!%s", attacker.getName(), damage, target.getName(), critText));
     }
 
     public void logSkillUse(Character user, Skill skill) {
+        if (!enabled) return;
         log(String.format("%s used %s! (-%d MP)", user.getName(), skill.getName(), skill.getMpCost()));
     }
 
     public void logItemUse(Character user, Item item, Character target) {
+        if (!enabled) return;
         if (user == target) {
             log(String.format("%s used %s!", user.getName(), item.getName()));
         } else {
@@ -63,58 +83,79 @@ public class BattleLog {
     }
 
     public void logHeal(Character healer, Character target, int amount) {
+        if (!enabled) return;
         log(String.format("%s healed %s for %d HP!", healer.getName(), target.getName(), amount));
     }
 
     public void logDefend(Character character) {
+        if (!enabled) return;
         log(String.format("%s is defending! (50%% damage reduction)", character.getName()));
     }
 
     public void logStatusEffect(Character target, StatusEffectType effectType, int duration) {
+        if (!enabled) return;
         log(String.format("%s is now %s for %d turn(s)!", target.getName(), effectType, duration));
     }
 
     public void logStatusEffectExpired(Character target, StatusEffectType effectType) {
+        if (!enabled) return;
         log(String.format("%s's %s effect has worn off.", target.getName(), effectType));
     }
 
     public void logStatusDamage(Character character, StatusEffectType effectType, int damage) {
+        if (!enabled) return;
         log(String.format("%s took %d damage from %s!", character.getName(), damage, effectType));
     }
 
     public void logHPChange(Character character, int oldHP, int newHP) {
+        if (!enabled) return;
         log(String.format("%s: %d/%d HP -> %d/%d HP",
                 character.getName(), oldHP, character.getMaxHP(), newHP, character.getMaxHP()));
     }
 
     public void logMPChange(Character character, int oldMP, int newMP) {
+        if (!enabled) return;
         log(String.format("%s: %d/%d MP -> %d/%d MP",
                 character.getName(), oldMP, character.getMaxMP(), newMP, character.getMaxMP()));
     }
 
     public void logElementAdvantage(String message) {
+        if (!enabled) return;
         log(">>> " + message + " <<<");
     }
 
+    /**
+     * Log an element matchup; NORMAL is not logged and no text is built
+     */
+    public void logEffectiveness(Effectiveness effectiveness) {
+        if (!enabled || effectiveness == Effectiveness.NORMAL) return;
+        log(effectiveness.getLogText());
+    }
+
     public void logLevelUp(Character character, int newLevel) {
+        if (!enabled) return;
         log(String.format("🎉 %s leveled up to Level %d!", character.getName(), newLevel));
     }
 
     public void logExperienceGain(Character character, int exp) {
+        if (!enabled) return;
         log(String.format("%s gained %d EXP!", character.getName(), exp));
     }
 
     public void logDeath(Character character) {
+        if (!enabled) return;
         log(String.format("💀 %s has been defeated!", character.getName()));
     }
 
     public void logVictory() {
+        if (!enabled) return;
         log("======================");
         log("    VICTORY!");
         log("======================");
     }
 
     public void logDefeat() {
+        if (!enabled) return;
         log("======================");
         log("    DEFEAT...");
         log("======================");
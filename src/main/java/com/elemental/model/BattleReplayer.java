@@ -0,0 +1,284 @@
+package com.elemental.model;
+
+import com.elemental.factory.ItemFactory;
+import com.elemental.util.BattleRandom;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Deterministic replay engine for {@link BattleJournal}.
+ * Rebuilds the teams from the recorded snapshot, seeds a new Battle with the
+ * recorded RNG state and re-executes the recorded turn starts and actions.
+ * Replays use a standalone inventory and never give rewards.
+ */
+public class BattleReplayer {
+
+    // Private constructor to prevent instantiation
+    private BattleReplayer() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * Replay the whole journal
+     */
+    public static Battle replay(BattleJournal journal) {
+        return replay(journal, Integer.MAX_VALUE, false);
+    }
+
+    /**
+     * Rebuild the battle state right after the given number of actions
+     * @param actionCount 0 = state right after initialization
+     */
+    public static Battle replay(BattleJournal journal, int actionCount) {
+        return replay(journal, actionCount, false);
+    }
+
+    /**
+     * Rebuild the battle state right after the given number of actions
+     * @param withLog true to rebuild the text battle log as well (debugging)
+     */
+    public static Battle replay(BattleJournal journal, int actionCount, boolean withLog) {
+        if (!journal.isStarted()) {
+            throw new IllegalArgumentException("Journal is empty!");
+        }
+
+        Reader reader = new Reader(journal.rawBuffer(), journal.size());
+        long rngState = reader.readHeaderStart();
+
+        int playerCount = reader.readCount();
+        int enemyCount = reader.readCount();
+        List<Character> playerTeam = new ArrayList<>(playerCount);
+        List<Character> enemyTeam = new ArrayList<>(enemyCount);
+        for (int i = 0; i < playerCount; i++) {
+            playerTeam.add(reader.readCharacter());
+        }
+        for (int i = 0; i < enemyCount; i++) {
+            enemyTeam.add(reader.readCharacter());
+        }
+
+        Map<String, Integer> items = new HashMap<>();
+        int itemCount = reader.readCount();
+        for (int i = 0; i < itemCount; i++) {
+            String name = reader.readString();
+            items.put(name, reader.readVarint());
+        }
+
+        Battle battle = new Battle(new BattleRandom(rngState));
+        battle.getBattleLog().setEnabled(withLog);
+        battle.setRewardsEnabled(false);
+        battle.setInventory(Inventory.createStandalone(items));
+        battle.initializeBattle(playerTeam, enemyTeam);
+
+        List<Character> combatants = new ArrayList<>(playerTeam);
+        combatants.addAll(enemyTeam);
+
+        int executed = 0;
+        while (reader.hasMore() && executed < actionCount) {
+            int op = reader.readVarint();
+            if (op == BattleJournal.OP_TURN_START) {
+                battle.getNextTurn();
+            } else if (op == BattleJournal.OP_ACTION) {
+                battle.executeAction(reader.readAction(combatants));
+                executed++;
+            } else {
+                throw new IllegalArgumentException("Corrupt journal: unknown entry " + op);
+            }
+        }
+
+        return battle;
+    }
+
+    /**
+     * Count recorded actions without replaying them
+     */
+    static int countActions(byte[] data, int size) {
+        Reader reader = new Reader(data, size);
+        reader.readHeaderStart();
+        int combatants = reader.readCount() + reader.readCount();
+        for (int i = 0; i < combatants; i++) {
+            reader.readCharacter();
+        }
+        int itemCount = reader.readCount();
+        for (int i = 0; i < itemCount; i++) {
+            reader.readString();
+            reader.readVarint();
+        }
+
+        int actions = 0;
+        while (reader.hasMore()) {
+            if (reader.readVarint() == BattleJournal.OP_ACTION) {
+                reader.skipAction();
+                actions++;
+            }
+        }
+        return actions;
+    }
+
+    /**
+     * Varint stream reader, mirror of the BattleJournal encoding
+     */
+    private static class Reader {
+        private final byte[] data;
+        private final int size;
+        private int position;
+
+        Reader(byte[] data, int size) {
+            this.data = data;
+            this.size = size;
+        }
+
+        boolean hasMore() {
+            return position < size;
+        }
+
+        long readHeaderStart() {
+            int version = readVarint();
+            if (version != BattleJournal.FORMAT_VERSION) {
+                throw new IllegalArgumentException("Unsupported journal version: " + version);
+            }
+            return readFixedLong();
+        }
+
+        int readVarint() {
+            int value = 0;
+            int shift = 0;
+            while (true) {
+                if (position >= size) {
+                    throw new IllegalArgumentException("Corrupt journal: unexpected end of data");
+                }
+                byte b = data[position++];
+                value |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+                shift += 7;
+            }
+        }
+
+        /**
+         * Varint that must be in [0, bound)
+         */
+        int readIndex(int bound) {
+            int value = readVarint();
+            if (value < 0 || value >= bound) {
+                throw new IllegalArgumentException("Corrupt journal: index " + value + " out of range");
+            }
+            return value;
+        }
+
+        /**
+         * Element count; every element takes at least one byte of the remaining data
+         */
+        int readCount() {
+            return readIndex(size - position + 1);
+        }
+
+        private void require(int bytes) {
+            if (bytes < 0 || bytes > size - position) {
+                throw new IllegalArgumentException("Corrupt journal: unexpected end of data");
+            }
+        }
+
+        long readFixedLong() {
+            require(8);
+            long value = 0;
+            for (int i = 0; i < 8; i++) {
+                value |= (data[position++] & 0xFFL) << (8 * i);
+            }
+            return value;
+        }
+
+        String readString() {
+            int length = readVarint();
+            require(length);
+            String value = new String(data, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+
+        Character readCharacter() {
+            String name = readString();
+            CharacterClass characterClass = CharacterClass.values()[readIndex(CharacterClass.values().length)];
+            Element element = Element.values()[readIndex(Element.values().length)];
+            boolean boss = readVarint() == 1;
+            int level = readVarint();
+            int experience = BattleJournal.unzigzag(readVarint());
+            int maxHP = readVarint();
+            int currentHP = readVarint();
+            int maxMP = readVarint();
+            int currentMP = readVarint();
+            int attack = readVarint();
+            int defense = readVarint();
+            int speed = readVarint();
+            Status status = Status.values()[readIndex(Status.values().length)];
+
+            Character character = new Character(name, characterClass, element);
+            character.restoreStats(level, experience, maxHP, maxMP, attack, defense, speed);
+            character.setCurrentHP(currentHP);
+            character.setCurrentMP(currentMP);
+            character.setIsBoss(boss);
+
+            int effectCount = readCount();
+            for (int i = 0; i < effectCount; i++) {
+                StatusEffectType type = StatusEffectType.values()[readIndex(StatusEffectType.values().length)];
+                int duration = BattleJournal.unzigzag(readVarint());
+                character.restoreStatusEffect(type, duration, readVarint());
+            }
+
+            int buffCount = readCount();
+            for (int i = 0; i < buffCount; i++) {
+                String buffName = readString();
+                ItemBuffType buffType;
+                try {
+                    buffType = ItemBuffType.valueOf(buffName);
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalArgumentException("Corrupt journal: unknown item buff " + buffName, e);
+                }
+                int value = BattleJournal.unzigzag(readVarint());
+                int duration = BattleJournal.unzigzag(readVarint());
+                character.applyItemBuff(buffType, value, duration);
+            }
+
+            character.setStatus(status);
+            return character;
+        }
+
+        BattleAction readAction(List<Character> combatants) {
+            Character actor = combatants.get(readIndex(combatants.size()));
+            ActionType actionType = ActionType.values()[readIndex(ActionType.values().length)];
+            int targetIndex = readIndex(combatants.size() + 1) - 1;
+
+            BattleAction action = new BattleAction(actor, actionType);
+            if (targetIndex >= 0) {
+                action.setTarget(combatants.get(targetIndex));
+            }
+            if (actionType == ActionType.SKILL) {
+                int skillIndex = readIndex(actor.getSkills().size() + 1) - 1;
+                if (skillIndex >= 0) {
+                    action.setSkill(actor.getSkills().get(skillIndex));
+                }
+            } else if (actionType == ActionType.ITEM) {
+                String itemName = readString();
+                if (!itemName.isEmpty()) {
+                    action.setItem(ItemFactory.getItem(itemName)); // Unknown names throw IllegalArgumentException
+                }
+            }
+            return action;
+        }
+
+        void skipAction() {
+            readVarint(); // actor
+            int actionType = readVarint();
+            readVarint(); // target
+            if (actionType == ActionType.SKILL.ordinal()) {
+                readVarint();
+            } else if (actionType == ActionType.ITEM.ordinal()) {
+                readString();
+            }
+        }
+    }
+}
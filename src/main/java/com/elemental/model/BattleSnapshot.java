@@ -0,0 +1,53 @@
+package com.elemental.model;
+
+/**
+ * Flat copy of a battle's mutable state (HP/MP, status effects, item buffs,
+ * defend flags, turn queue and RNG state) in one int array.
+ *
+ * Taken with {@link Battle#snapshot()} and applied with {@link Battle#restore}.
+ * A snapshot can be reused with {@link Battle#snapshot(BattleSnapshot)}, so an
+ * AI search can fork the same battle many times without allocating.
+ * Restoring only works on the battle (same characters) it was taken from.
+ */
+public class BattleSnapshot {
+    int[] state;
+    int combatantCount;
+    int turnNumber;
+    int currentTurnIndex; // -1 = no current turn
+    boolean turnPending;  // Current turn taken but its action not executed yet
+    BattleStatus battleStatus;
+    long rngState;
+
+    BattleSnapshot() {
+        this.state = new int[0];
+    }
+
+    /**
+     * Make sure the state array can hold the given number of ints
+     */
+    void ensureCapacity(int length) {
+        if (state.length < length) {
+            state = new int[length];
+        }
+    }
+
+    public int getCombatantCount() {
+        return combatantCount;
+    }
+
+    public int getTurnNumber() {
+        return turnNumber;
+    }
+
+    public boolean isTurnPending() {
+        return turnPending;
+    }
+
+    public BattleStatus getBattleStatus() {
+        return battleStatus;
+    }
+
+    public long getRngState() {
+        return rngState;
+    }
+}
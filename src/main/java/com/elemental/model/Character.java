@@ -1,9 +1,14 @@
 package com.elemental.model;
 
-import java.util.ArrayList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
 
 public class Character {
     // Basic attributes
@@ -26,121 +31,158 @@ public class Character {
 
     // Status and skills
     private Status status;
-    private List<Skill> skills;
+    private final CharacterTemplate template; // Shared base stats and skills
 
     // Battle-related attributes
     private boolean isDefending;
-    private Map<StatusEffectType, Integer> activeStatusEffects; // Effect type -> remaining turns
+    private final StatusEffectEngine statusEffects = new StatusEffectEngine(); // Timing wheel of active effects
+    private Map<StatusEffectType, Integer> statusEffectView; // Read-only view, created on first use
     private int baseSpeed; // Store original speed for buff calculations
 
-    // Item buff tracking (separate from status effects)
-    private Map<String, Integer> itemBuffs; // Buff type ("ATTACK"/"DEFENSE") -> remaining turns
-    private Map<String, Integer> itemBuffValues; // Buff type -> percentage value
+    // Item buff tracking (separate from status effects), one slot per ItemBuffType ordinal
+    private final int[] itemBuffTurns = new int[ITEM_BUFF_TYPES.length]; // Remaining turns, 0 = inactive
+    private final int[] itemBuffValues = new int[ITEM_BUFF_TYPES.length]; // Percentage value
+
+    // Derived stats (buffs and status effects applied), recomputed after a change
+    private boolean derivedStatsDirty = true;
+    private int modifiedAttack;
+    private int modifiedDefense;
+    private int modifiedSpeed;
 
     // Boss flag
     private boolean isBoss; // Mark if this character is a boss enemy
 
+    // Team view of the battle that initialized this character last (alive counts, target indexes).
+    // A character reports to one view at a time; attaching it to another view detaches the old one.
+    private StateListener stateListener;
+    private int stateSlot;
+
+    /**
+     * Change events (HP, max HP, attack, alive state) for the owning {@link TeamView}
+     */
+    interface StateListener {
+        void onStateChanged(int slot);
+
+        /**
+         * The member in this slot now reports to another view
+         */
+        void onDetached(int slot);
+    }
+
+    // Leveling rules
+    private static final int MAX_LEVEL = 99;
+    private static final int MAX_EXPERIENCE = 999;
+    private static final int HP_PER_LEVEL = 10;
+    private static final int MP_PER_LEVEL = 5;
+    private static final int ATTACK_PER_LEVEL = 3;
+    private static final int DEFENSE_PER_LEVEL = 2;
+    private static final int SPEED_PER_LEVEL = 1;
+
     // Constructor
     public Character(String name, CharacterClass characterClass, Element element) {
         this.name = name;
         this.characterClass = characterClass;
         this.element = element;
+        this.template = CharacterTemplate.of(characterClass, element);
         this.level = 1;
         this.experience = 0;
         this.status = Status.NORMAL;
         this.isDefending = false;
-        this.activeStatusEffects = new HashMap<>();
-        this.itemBuffs = new HashMap<>();
-        this.itemBuffValues = new HashMap<>();
         this.isBoss = false; // Default to non-boss
 
         // Initialize base stats based on class
         initializeBaseStats();
-
-        // Initialize skills based on class
-        initializeSkills();
     }
 
     private void initializeBaseStats() {
-        switch (characterClass) {
-            case MAGE:
-                this.maxHP = 80;
-                this.maxMP = 100;
-                this.attack = 35;
-                this.defense = 10;
-                this.speed = 25;
-                break;
-            case WARRIOR:
-                this.maxHP = 120;
-                this.maxMP = 50;
-                this.attack = 25;
-                this.defense = 20;
-                this.speed = 15;
-                break;
-            case RANGER:
-                this.maxHP = 100;
-                this.maxMP = 70;
-                this.attack = 30;
-                this.defense = 15;
-                this.speed = 30;
-                break;
-        }
+        this.maxHP = template.getMaxHP();
+        this.maxMP = template.getMaxMP();
+        this.attack = template.getAttack();
+        this.defense = template.getDefense();
+        this.speed = template.getSpeed();
         this.currentHP = this.maxHP;
         this.currentMP = this.maxMP;
     }
 
-    private void initializeSkills() {
-        switch (characterClass) {
-            case MAGE:
-                this.skills = Skill.getMageSkills(this.element);
-                break;
-            case WARRIOR:
-                this.skills = Skill.getWarriorSkills(this.element);
-                break;
-            case RANGER:
-                this.skills = Skill.getRangerSkills(this.element);
-                break;
-        }
-    }
-
     // FR-CHAR-004: Level Up System
     public void gainExperience(int exp) {
         this.experience += exp;
 
         // Check if level up is needed
-        while (this.experience >= getExperienceForNextLevel() && this.level < 99) {
+        while (this.experience >= getExperienceForNextLevel() && this.level < MAX_LEVEL) {
             levelUp();
         }
 
         // Cap experience at 999
-        if (this.experience > 999) {
-            this.experience = 999;
+        if (this.experience > MAX_EXPERIENCE) {
+            this.experience = MAX_EXPERIENCE;
         }
     }
 
+    /**
+     * Same result as calling {@code gainExperience(getLevel() * 100)} {@code times} times
+     * (one level per call up to level 99, then experience capped), in O(1).
+     * Used to bring new enemies to their level.
+     */
+    public void gainLevels(int times) {
+        if (times <= 0) {
+            return;
+        }
+        if (experience < 0 || experience >= getExperienceForNextLevel()) {
+            // Unusual state (several level ups per call): take the exact slow path
+            for (int i = 0; i < times; i++) {
+                gainExperience(level * 100);
+            }
+            return;
+        }
+
+        // Each call below the cap adds exactly the experience needed: one level, experience unchanged
+        int levels = level < MAX_LEVEL ? Math.min(times, MAX_LEVEL - level) : 0;
+        int oldExperience = experience;
+        if (levels > 0) {
+            levelUp(levels);
+        }
+        experience = levels < times ? MAX_EXPERIENCE : Math.min(oldExperience, MAX_EXPERIENCE);
+    }
+
     private int getExperienceForNextLevel() {
         return level * 100;
     }
 
     public void levelUp() {
-        this.level++;
+        levelUp(1);
+    }
+
+    /**
+     * Same result as calling {@link #levelUp()} {@code levels} times, in O(1).
+     * Nothing happens for levels <= 0.
+     */
+    public void levelUp(int levels) {
+        if (levels <= 0) {
+            return;
+        }
+        int oldLevel = this.level;
+        this.level += levels;
 
         // Stat increases
-        this.maxHP += 10;
-        this.maxMP += 5;
-        this.attack += 3;
-        this.defense += 2;
-        this.speed += 1;
+        this.maxHP += HP_PER_LEVEL * levels;
+        this.maxMP += MP_PER_LEVEL * levels;
+        this.attack += ATTACK_PER_LEVEL * levels;
+        this.defense += DEFENSE_PER_LEVEL * levels;
+        this.speed += SPEED_PER_LEVEL * levels;
 
         // Update base speed
         this.baseSpeed = this.speed;
+        this.derivedStatsDirty = true;
 
         // Restore HP and MP on level up
         this.currentHP = this.maxHP;
         this.currentMP = this.maxMP;
 
-        // Reset experience for next level
-        this.experience -= getExperienceForNextLevel() - 100;
+        // Reset experience for next level: each level up takes 100 × the level it started from,
+        // 100 × (oldLevel + ... + oldLevel + levels - 1) in total (int wrap-around as in the step-by-step loop)
+        this.experience -= (int) (100L * ((long) levels * oldLevel + (long) levels * (levels - 1) / 2));
+        notifyStateChanged();
     }
 
     // Combat methods
@@ -150,6 +192,7 @@ public class Character {
         if (this.currentHP == 0) {
             this.status = Status.DEAD;
         }
+        notifyStateChanged();
     }
 
     public void heal(int amount) {
@@ -158,6 +201,7 @@ public class Character {
             if (this.currentHP > 0 && this.status == Status.DEAD) {
                 this.status = Status.NORMAL;
             }
+            notifyStateChanged();
         }
     }
 
@@ -184,143 +228,374 @@ public class Character {
 
     // Status effect methods
     public void applyStatusEffect(StatusEffectType effectType, int duration) {
-        activeStatusEffects.put(effectType, duration);
+        statusEffects.apply(effectType, duration);
+        updateStatusFromEffects();
+    }
+
+    /**
+     * Restore an effect with its recorded stacks (journal replay), without the stack rule
+     */
+    void restoreStatusEffect(StatusEffectType effectType, int duration, int stacks) {
+        statusEffects.set(effectType, duration, stacks);
         updateStatusFromEffects();
     }
 
     public void removeStatusEffect(StatusEffectType effectType) {
-        activeStatusEffects.remove(effectType);
+        statusEffects.remove(effectType);
         updateStatusFromEffects();
     }
 
     public boolean hasStatusEffect(StatusEffectType effectType) {
-        return activeStatusEffects.containsKey(effectType);
+        return statusEffects.has(effectType);
     }
 
     public int getStatusEffectDuration(StatusEffectType effectType) {
-        return activeStatusEffects.getOrDefault(effectType, 0);
+        return statusEffects.getRemaining(effectType);
     }
 
+    /**
+     * Stacks of an effect (see {@link StatusEffectDefinition.StackRule}), 0 if not active
+     */
+    public int getStatusEffectStacks(StatusEffectType effectType) {
+        return statusEffects.getStacks(effectType);
+    }
+
+    /**
+     * Active effects as bits (1L << ordinal). Allocation-free iteration:
+     * take Long.numberOfTrailingZeros, map it with {@link StatusEffectType#fromOrdinal}, clear the bit.
+     */
+    public long getStatusEffectMask() {
+        return statusEffects.getMask();
+    }
+
+    /**
+     * Read-only live view of the active effects (type -> remaining turns), in ordinal order
+     */
     public Map<StatusEffectType, Integer> getActiveStatusEffects() {
-        return new HashMap<>(activeStatusEffects);
+        if (statusEffectView == null) {
+            statusEffectView = new StatusEffectView();
+        }
+        return statusEffectView;
     }
 
     private void updateStatusFromEffects() {
-        if (activeStatusEffects.containsKey(StatusEffectType.STUN)) {
+        if (hasStatusEffect(StatusEffectType.STUN)) {
             this.status = Status.STUNNED;
-        } else if (activeStatusEffects.containsKey(StatusEffectType.POISON)) {
+        } else if (hasStatusEffect(StatusEffectType.POISON)) {
             this.status = Status.POISONED;
-        } else if (activeStatusEffects.containsKey(StatusEffectType.SHIELDED)) {
+        } else if (hasStatusEffect(StatusEffectType.SHIELDED)) {
             this.status = Status.SHIELDED;
         } else if (this.currentHP > 0) {
             this.status = Status.NORMAL;
         }
+        derivedStatsDirty = true;
+        notifyStateChanged();
     }
 
     public void processStatusEffects() {
-        List<StatusEffectType> toRemove = new ArrayList<>();
-
-        for (Map.Entry<StatusEffectType, Integer> entry : activeStatusEffects.entrySet()) {
-            StatusEffectType effectType = entry.getKey();
-            int duration = entry.getValue();
-
-            // Process effect
-            switch (effectType) {
-                case POISON:
-                    int poisonDamage = (int) (maxHP * 0.05);
-                    takeDamage(poisonDamage);
-                    break;
-                case BURN:
-                    int burnDamage = (int) (maxHP * 0.07);
-                    takeDamage(burnDamage);
-                    break;
-                case STUN:
-                case SHIELDED:
-                case SPEED_BUFF:
-                    // These are handled elsewhere
-                    break;
-            }
-
-            // Decrease duration
-            int newDuration = duration - 1;
-            if (newDuration <= 0) {
-                toRemove.add(effectType);
-            } else {
-                activeStatusEffects.put(effectType, newDuration);
+        processStatusEffects(null);
+    }
+
+    /**
+     * End of this character's turn: each damage-over-time effect hits once, then only the
+     * effects due on this tick of the timing wheel expire.
+     * @param log Battle log for status damage and death, or null
+     */
+    void processStatusEffects(BattleLog log) {
+        for (long dots = statusEffects.getDamageOverTime(); dots != 0; dots &= dots - 1) {
+            StatusEffectType effectType = EFFECT_TYPES[Long.numberOfTrailingZeros(dots)];
+            int damage = StatusEffectDefinition.get(effectType).tickDamage(maxHP, statusEffects.getStacks(effectType));
+            boolean wasAlive = isAlive();
+            takeDamage(damage);
+            if (log != null) {
+                log.logStatusDamage(this, effectType, damage);
+                if (wasAlive && !isAlive()) {
+                    log.logDeath(this);
+                }
             }
         }
 
         // Remove expired effects
-        for (StatusEffectType effectType : toRemove) {
-            removeStatusEffect(effectType);
+        for (long expired = statusEffects.advance(); expired != 0; expired &= expired - 1) {
+            removeStatusEffect(EFFECT_TYPES[Long.numberOfTrailingZeros(expired)]);
         }
     }
 
-    public int getModifiedDefense() {
-        int modifiedDefense = this.defense;
-        if (hasStatusEffect(StatusEffectType.SHIELDED)) {
-            modifiedDefense = (int) (defense * 1.5);
+    /**
+     * Map view over the effect engine (no copy)
+     */
+    private final class StatusEffectView extends AbstractMap<StatusEffectType, Integer> {
+        @Override
+        public int size() {
+            return Long.bitCount(statusEffects.getMask());
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return key instanceof StatusEffectType && hasStatusEffect((StatusEffectType) key);
+        }
+
+        @Override
+        public Integer get(Object key) {
+            return containsKey(key) ? statusEffects.getRemaining((StatusEffectType) key) : null;
+        }
+
+        @Override
+        public Set<Map.Entry<StatusEffectType, Integer>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public int size() {
+                    return StatusEffectView.this.size();
+                }
+
+                @Override
+                public Iterator<Map.Entry<StatusEffectType, Integer>> iterator() {
+                    return new Iterator<>() {
+                        private long remaining = statusEffects.getMask();
+
+                        @Override
+                        public boolean hasNext() {
+                            return remaining != 0;
+                        }
+
+                        @Override
+                        public Map.Entry<StatusEffectType, Integer> next() {
+                            if (remaining == 0) {
+                                throw new NoSuchElementException();
+                            }
+                            int ordinal = Long.numberOfTrailingZeros(remaining);
+                            remaining &= remaining - 1;
+                            StatusEffectType effectType = EFFECT_TYPES[ordinal];
+                            return new SimpleImmutableEntry<>(effectType, statusEffects.getRemaining(effectType));
+                        }
+                    };
+                }
+            };
         }
-        return modifiedDefense;
+    }
+
+    public int getModifiedDefense() {
+        return DamagePipeline.modifiedDefense(defense, 0, StatusEffectDefinition.defenseModifier(statusEffects.getMask()));
     }
 
     public int getModifiedSpeed() {
-        int modifiedSpeed = this.speed;
-        if (hasStatusEffect(StatusEffectType.SPEED_BUFF)) {
-            modifiedSpeed = (int) (speed * 1.3);
-        }
+        refreshDerivedStats();
         return modifiedSpeed;
     }
 
     // Item buff management
+    public void applyItemBuff(ItemBuffType buffType, int percentage, int duration) {
+        int slot = buffType.ordinal();
+        itemBuffTurns[slot] = Math.max(0, duration);
+        itemBuffValues[slot] = duration > 0 ? percentage : 0;
+        derivedStatsDirty = true;
+    }
+
+    /**
+     * @deprecated use {@link #applyItemBuff(ItemBuffType, int, int)}
+     */
+    @Deprecated
     public void applyItemBuff(String buffType, int percentage, int duration) {
-        itemBuffs.put(buffType, duration);
-        itemBuffValues.put(buffType, percentage);
+        applyItemBuff(ItemBuffType.valueOf(buffType), percentage, duration);
     }
 
+    public boolean hasItemBuff(ItemBuffType buffType) {
+        return itemBuffTurns[buffType.ordinal()] > 0;
+    }
+
+    /**
+     * @deprecated use {@link #hasItemBuff(ItemBuffType)}
+     */
+    @Deprecated
     public boolean hasItemBuff(String buffType) {
-        return itemBuffs.containsKey(buffType) && itemBuffs.get(buffType) > 0;
+        return hasItemBuff(ItemBuffType.valueOf(buffType));
     }
 
     public void processItemBuffs() {
-        List<String> toRemove = new ArrayList<>();
-        for (Map.Entry<String, Integer> entry : itemBuffs.entrySet()) {
-            String buffType = entry.getKey();
-            int duration = entry.getValue() - 1;
-
-            if (duration <= 0) {
-                toRemove.add(buffType);
-            } else {
-                itemBuffs.put(buffType, duration);
+        for (int slot = 0; slot < itemBuffTurns.length; slot++) {
+            if (itemBuffTurns[slot] > 0 && --itemBuffTurns[slot] == 0) {
+                itemBuffValues[slot] = 0;
+                derivedStatsDirty = true;
             }
         }
-
-        for (String buffType : toRemove) {
-            itemBuffs.remove(buffType);
-            itemBuffValues.remove(buffType);
-        }
     }
 
     public int getModifiedAttack() {
-        int modifiedAttack = this.attack;
-        if (hasItemBuff("ATTACK")) {
-            int percentage = itemBuffValues.get("ATTACK");
-            modifiedAttack = (int) (attack * (1 + percentage / 100.0));
-        }
+        refreshDerivedStats();
         return modifiedAttack;
     }
 
     public int getModifiedDefenseWithBuffs() {
-        int modifiedDefense = getModifiedDefense(); // Start with status effect defense
-        if (hasItemBuff("DEFENSE")) {
-            int percentage = itemBuffValues.get("DEFENSE");
-            modifiedDefense = (int) (defense * (1 + percentage / 100.0));
-        }
+        refreshDerivedStats();
         return modifiedDefense;
     }
 
+    /**
+     * Recompute the derived stats if a stat, buff or status effect changed since the last query
+     */
+    private void refreshDerivedStats() {
+        if (!derivedStatsDirty) {
+            return;
+        }
+        long effects = statusEffects.getMask();
+        // Item buffs replace the status effect modifiers (see DamagePipeline)
+        modifiedAttack = DamagePipeline.modifiedAttack(attack, itemBuffValues[ItemBuffType.ATTACK.ordinal()],
+                StatusEffectDefinition.attackModifier(effects));
+        modifiedDefense = DamagePipeline.modifiedDefense(defense, itemBuffValues[ItemBuffType.DEFENSE.ordinal()],
+                StatusEffectDefinition.defenseModifier(effects));
+        modifiedSpeed = StatusEffectDefinition.modifiedSpeed(speed, effects);
+        derivedStatsDirty = false;
+    }
+
+    /**
+     * Active item buffs (type -> remaining turns), as a copy
+     */
+    public Map<ItemBuffType, Integer> getItemBuffs() {
+        Map<ItemBuffType, Integer> active = new EnumMap<>(ItemBuffType.class);
+        for (ItemBuffType buffType : ITEM_BUFF_TYPES) {
+            if (hasItemBuff(buffType)) {
+                active.put(buffType, itemBuffTurns[buffType.ordinal()]);
+            }
+        }
+        return active;
+    }
+
+    /**
+     * Active item buffs keyed by type name ("ATTACK"/"DEFENSE"), as a copy
+     * @deprecated use {@link #getItemBuffs()}
+     */
+    @Deprecated
     public Map<String, Integer> getActiveItemBuffs() {
-        return new HashMap<>(itemBuffs);
+        Map<String, Integer> active = new HashMap<>();
+        for (Map.Entry<ItemBuffType, Integer> entry : getItemBuffs().entrySet()) {
+            active.put(entry.getKey().name(), entry.getValue());
+        }
+        return active;
+    }
+
+    /**
+     * Percentage value of an active item buff, 0 if not active
+     */
+    public int getItemBuffValue(ItemBuffType buffType) {
+        return itemBuffValues[buffType.ordinal()];
+    }
+
+    /**
+     * @deprecated use {@link #getItemBuffValue(ItemBuffType)}
+     */
+    @Deprecated
+    public int getItemBuffValue(String buffType) {
+        return getItemBuffValue(ItemBuffType.valueOf(buffType));
+    }
+
+    public int getItemBuffDuration(ItemBuffType buffType) {
+        return itemBuffTurns[buffType.ordinal()];
+    }
+
+    // ==================== SNAPSHOT STATE ====================
+
+    private static final StatusEffectType[] EFFECT_TYPES = StatusEffectType.values();
+    private static final Status[] STATUSES = Status.values();
+    private static final ItemBuffType[] ITEM_BUFF_TYPES = ItemBuffType.values();
+
+    /** Number of ints written by {@link #writeState} */
+    static final int STATE_SIZE = 12 + EFFECT_TYPES.length * 2 + ITEM_BUFF_TYPES.length * 3;
+
+    // Offsets inside one character's state (used by BattleKernel adapters)
+    static final int STATE_MAX_HP = 2;
+    static final int STATE_HP = 3;
+    static final int STATE_MAX_MP = 4;
+    static final int STATE_MP = 5;
+    static final int STATE_ATTACK = 6;
+    static final int STATE_DEFENSE = 7;
+    static final int STATE_SPEED = 8;
+    static final int STATE_STATUS = 9;
+    static final int STATE_DEFENDING = 10;
+    static final int STATE_EFFECT_MASK = 11;  // followed by one duration per effect type
+    static final int STATE_EFFECT_STACKS = 12 + EFFECT_TYPES.length; // One stack count per effect type
+    static final int STATE_ITEM_BUFFS = 12 + EFFECT_TYPES.length * 2; // (present, duration, value) per buff type
+
+    /**
+     * Write all mutable battle state into a flat int array
+     * @return offset after the written state
+     */
+    int writeState(int[] state, int offset) {
+        state[offset++] = level;
+        state[offset++] = experience;
+        state[offset++] = maxHP;
+        state[offset++] = currentHP;
+        state[offset++] = maxMP;
+        state[offset++] = currentMP;
+        state[offset++] = attack;
+        state[offset++] = defense;
+        state[offset++] = speed;
+        state[offset++] = status.ordinal();
+        state[offset++] = isDefending ? 1 : 0;
+
+        state[offset] = (int) statusEffects.getMask();
+        for (int i = 0; i < EFFECT_TYPES.length; i++) {
+            state[offset + 1 + i] = statusEffects.getRemaining(EFFECT_TYPES[i]);
+            state[offset + 1 + EFFECT_TYPES.length + i] = statusEffects.getStacks(EFFECT_TYPES[i]);
+        }
+        offset += 1 + EFFECT_TYPES.length * 2;
+
+        for (int slot = 0; slot < ITEM_BUFF_TYPES.length; slot++) {
+            state[offset++] = itemBuffTurns[slot] > 0 ? 1 : 0;
+            state[offset++] = itemBuffTurns[slot];
+            state[offset++] = itemBuffValues[slot];
+        }
+        return offset;
+    }
+
+    /**
+     * Restore state written by {@link #writeState}. Everything is overwritten in place,
+     * so restoring allocates nothing.
+     * @return offset after the read state
+     */
+    int readState(int[] state, int offset) {
+        level = state[offset++];
+        experience = state[offset++];
+        maxHP = state[offset++];
+        currentHP = state[offset++];
+        maxMP = state[offset++];
+        currentMP = state[offset++];
+        attack = state[offset++];
+        defense = state[offset++];
+        speed = state[offset++];
+        baseSpeed = speed;
+        status = STATUSES[state[offset++]];
+        isDefending = state[offset++] == 1;
+
+        statusEffects.restore(state[offset] & 0xFFFFFFFFL, state, offset + 1, offset + 1 + EFFECT_TYPES.length);
+        offset += 1 + EFFECT_TYPES.length * 2;
+
+        for (int slot = 0; slot < ITEM_BUFF_TYPES.length; slot++) {
+            boolean present = state[offset++] == 1;
+            int duration = state[offset++];
+            int value = state[offset++];
+            itemBuffTurns[slot] = present ? duration : 0;
+            itemBuffValues[slot] = present ? value : 0;
+        }
+        derivedStatsDirty = true;
+        notifyStateChanged();
+        return offset;
+    }
+
+    /**
+     * Restore exact stats, bypassing the leveling rules.
+     * Only for battle infrastructure that rebuilds a recorded state (journal replay).
+     */
+    void restoreStats(int level, int experience, int maxHP, int maxMP, int attack, int defense, int speed) {
+        this.level = level;
+        this.experience = experience;
+        this.maxHP = maxHP;
+        this.maxMP = maxMP;
+        this.attack = attack;
+        this.defense = defense;
+        this.speed = speed;
+        this.baseSpeed = speed;
+        this.derivedStatsDirty = true;
+        notifyStateChanged();
     }
 
     // Getters
@@ -337,22 +612,34 @@ public class Character {
     public int getDefense() { return defense; }
     public int getSpeed() { return speed; }
     public Status getStatus() { return status; }
-    public List<Skill> getSkills() { return new ArrayList<>(skills); }
+    public List<Skill> getSkills() { return template.getSkills(); } // Shared, unmodifiable
+    public CharacterTemplate getTemplate() { return template; }
     public boolean isBoss() { return isBoss; }
 
     // Setters
-    public void setStatus(Status status) { this.status = status; }
+    public void setStatus(Status status) {
+        this.status = status;
+        notifyStateChanged();
+    }
     public void setIsBoss(boolean isBoss) { this.isBoss = isBoss; }
 
     // --- NEW SETTERS FOR BALANCING ---
-    public void setAttack(int attack) { this.attack = attack; }
-    public void setDefense(int defense) { this.defense = defense; }
+    public void setAttack(int attack) {
+        this.attack = attack;
+        this.derivedStatsDirty = true;
+        notifyStateChanged();
+    }
+    public void setDefense(int defense) {
+        this.defense = defense;
+        this.derivedStatsDirty = true;
+    }
 
     public void setCurrentHP(int currentHP) {
         this.currentHP = Math.max(0, Math.min(currentHP, this.maxHP));
         if (this.currentHP == 0) {
             this.status = Status.DEAD;
         }
+        notifyStateChanged();
     }
 
     public void setCurrentMP(int currentMP) {
@@ -381,4 +668,42 @@ public class Character {
     public boolean isAlive() {
         return currentHP > 0 && status != Status.DEAD;
     }
-}
\ No newline at end of file
+
+    /**
+     * Detached copy with the same stats, status effects and item buffs (not part of any
+     * team view). Skills are shared, so a decision made on the copy applies to this character.
+     */
+    public Character copy() {
+        Character copy = new Character(name, characterClass, element);
+        int[] state = new int[STATE_SIZE];
+        writeState(state, 0);
+        copy.readState(state, 0);
+        copy.isBoss = isBoss;
+        return copy;
+    }
+
+    void setStateListener(StateListener stateListener, int slot) {
+        if (this.stateListener != null && this.stateListener != stateListener) {
+            this.stateListener.onDetached(stateSlot);
+        }
+        this.stateListener = stateListener;
+        this.stateSlot = slot;
+    }
+
+    StateListener getStateListener() {
+        return stateListener;
+    }
+
+    int getStateSlot() {
+        return stateSlot;
+    }
+
+    /**
+     * Report a state change to the owning team view (if any)
+     */
+    private void notifyStateChanged() {
+        if (stateListener != null) {
+            stateListener.onStateChanged(stateSlot);
+        }
+    }
+}
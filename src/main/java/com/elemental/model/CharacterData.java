@@ -53,10 +53,7 @@ public class CharacterData {
 
     private void restoreCharacterState(Character character) {
         // Level up to saved level
-        int levelsToGain = level - 1;
-        for (int i = 0; i < levelsToGain; i++) {
-            character.levelUp();
-        }
+        character.levelUp(level - 1);
 
         // Set exact stats (in case of variations)
         character.setCurrentHP(currentHP);
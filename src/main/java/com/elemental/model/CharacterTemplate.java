@@ -0,0 +1,106 @@
+package com.elemental.model;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable base stats and skill set of one class/element combination.
+ * One shared instance per combination; every Character of that combination
+ * references it, so Skill objects are flyweights instead of per-character copies.
+ */
+public final class CharacterTemplate {
+    private static final CharacterTemplate[][] TEMPLATES; // [class.ordinal()][element.ordinal()]
+
+    static {
+        CharacterClass[] classes = CharacterClass.values();
+        Element[] elements = Element.values();
+        TEMPLATES = new CharacterTemplate[classes.length][elements.length];
+        for (CharacterClass characterClass : classes) {
+            for (Element element : elements) {
+                TEMPLATES[characterClass.ordinal()][element.ordinal()] = create(characterClass, element);
+            }
+        }
+    }
+
+    private final CharacterClass characterClass;
+    private final Element element;
+    private final int maxHP;
+    private final int maxMP;
+    private final int attack;
+    private final int defense;
+    private final int speed;
+    private final List<Skill> skills;
+
+    private CharacterTemplate(CharacterClass characterClass, Element element, int maxHP, int maxMP,
+                              int attack, int defense, int speed, List<Skill> skills) {
+        this.characterClass = characterClass;
+        this.element = element;
+        this.maxHP = maxHP;
+        this.maxMP = maxMP;
+        this.attack = attack;
+        this.defense = defense;
+        this.speed = speed;
+        this.skills = Collections.unmodifiableList(skills);
+    }
+
+    /**
+     * Shared template for a class and element
+     */
+    public static CharacterTemplate of(CharacterClass characterClass, Element element) {
+        if (characterClass == null || element == null) {
+            throw new IllegalArgumentException("Character class and element cannot be null!");
+        }
+        return TEMPLATES[characterClass.ordinal()][element.ordinal()];
+    }
+
+    private static CharacterTemplate create(CharacterClass characterClass, Element element) {
+        switch (characterClass) {
+            case MAGE:
+                return new CharacterTemplate(characterClass, element, 80, 100, 35, 10, 25,
+                        Skill.getMageSkills(element));
+            case WARRIOR:
+                return new CharacterTemplate(characterClass, element, 120, 50, 25, 20, 15,
+                        Skill.getWarriorSkills(element));
+            case RANGER:
+                return new CharacterTemplate(characterClass, element, 100, 70, 30, 15, 30,
+                        Skill.getRangerSkills(element));
+            default:
+                throw new IllegalArgumentException("Unknown character class: " + characterClass);
+        }
+    }
+
+    public CharacterClass getCharacterClass() {
+        return characterClass;
+    }
+
+    public Element getElement() {
+        return element;
+    }
+
+    public int getMaxHP() {
+        return maxHP;
+    }
+
+    public int getMaxMP() {
+        return maxMP;
+    }
+
+    public int getAttack() {
+        return attack;
+    }
+
+    public int getDefense() {
+        return defense;
+    }
+
+    public int getSpeed() {
+        return speed;
+    }
+
+    /**
+     * Shared, unmodifiable skill list
+     */
+    public List<Skill> getSkills() {
+        return skills;
+    }
+}
@@ -1,17 +1,35 @@
 package com.elemental.model;
 
-import java.util.Random;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * FR-BATTLE-003: Damage Calculation
  * Handles damage calculation with element modifiers, defense, and critical hits
  */
 public class DamageCalculator {
-    private static final Random random = new Random();
     private static final double CRITICAL_CHANCE = 0.10; // 10%
-    private static final double CRITICAL_MULTIPLIER = 1.5;
-    private static final double DEFEND_REDUCTION = 0.5; // 50% damage reduction
-    private static final int MIN_DAMAGE = 1;
+    private static final DamagePipeline PIPELINE = DamagePipeline.STANDARD;
+
+    // Element matchups, indexed by [attacker.ordinal()][defender.ordinal()]
+    private static final Effectiveness[][] EFFECTIVENESS;
+    static final double[][] ELEMENT_MODIFIERS; // Shared with BattleKernel
+
+    private static final DamagePreview[] PREVIEW_CACHE = new DamagePreview[256]; // Power of two
+
+    static {
+        Element[] elements = Element.values();
+        EFFECTIVENESS = new Effectiveness[elements.length][elements.length];
+        ELEMENT_MODIFIERS = new double[elements.length][elements.length];
+        for (Element attacker : elements) {
+            for (Element defender : elements) {
+                Effectiveness effectiveness = matchup(attacker, defender);
+                EFFECTIVENESS[attacker.ordinal()][defender.ordinal()] = effectiveness;
+                ELEMENT_MODIFIERS[attacker.ordinal()][defender.ordinal()] = effectiveness.getModifier();
+            }
+        }
+    }
 
     // Private constructor to prevent instantiation
     private DamageCalculator() {
@@ -22,47 +40,162 @@ public class DamageCalculator {
      * Calculate damage with all modifiers
      */
     public static int calculateDamage(Character attacker, Character defender, Skill skill) {
-        // Base Damage = Attacker.Attack × Skill Multiplier
-        double baseDamage = attacker.getAttack() * skill.getDamageMultiplier();
+        return calculateDamage(attacker, defender, skill, ThreadLocalRandom.current());
+    }
 
+    /**
+     * Calculate damage with all modifiers, rolling critical hits on the given random source
+     */
+    public static int calculateDamage(Character attacker, Character defender, Skill skill, RandomGenerator rng) {
         // Element Modifier - use skill element if available, otherwise use attacker element
-        Element attackElement = skill.getElement() != null ? skill.getElement() : attacker.getElement();
-        double elementModifier = getElementModifier(attackElement, defender.getElement());
+        double elementModifier = getElementModifier(attackElement(attacker, skill), defender.getElement());
+        return hit(attacker, defender, skill.getDamageMultiplier(), elementModifier, isCritical(rng));
+    }
 
-        // Defense Reduction = Base Damage × (Defender.Defense / 200)
-        double defenseReduction = baseDamage * (defender.getDefense() / 200.0);
+    /**
+     * Resolve one hit in a single pass: rolls the critical hit exactly once and fills
+     * the outcome (damage, critical, effectiveness, defended).
+     * @param skill Skill used, or null for a basic attack
+     * @param into Holder to fill (reused by Battle, so nothing is allocated per hit)
+     * @return into
+     */
+    public static DamageOutcome resolve(Character attacker, Character defender, Skill skill,
+                                        RandomGenerator rng, DamageOutcome into) {
+        // Element - use skill element if available, otherwise use attacker element
+        Effectiveness effectiveness = getEffectiveness(attackElement(attacker, skill), defender.getElement());
+        double multiplier = skill != null ? skill.getDamageMultiplier() : 1.0;
+        boolean critical = isCritical(rng);
+        boolean defending = defender.isDefending();
 
-        // Critical Hit (10% chance)
-        double criticalModifier = isCritical() ? CRITICAL_MULTIPLIER : 1.0;
+        int damage = hit(attacker, defender, multiplier, effectiveness.getModifier(), critical);
+        into.set(damage, critical, effectiveness, defending);
+        return into;
+    }
 
-        // Final Damage = (Base × Element - Defense) × Critical
-        double finalDamage = (baseDamage * elementModifier - defenseReduction) * criticalModifier;
+    /**
+     * Same as {@link #resolve(Character, Character, Skill, RandomGenerator, DamageOutcome)}
+     * with a new outcome object
+     */
+    public static DamageOutcome resolve(Character attacker, Character defender, Skill skill, RandomGenerator rng) {
+        return resolve(attacker, defender, skill, rng, new DamageOutcome());
+    }
 
-        // Handle Defend state (50% damage reduction)
-        if (defender.isDefending()) {
-            finalDamage *= DEFEND_REDUCTION;
+    /**
+     * One attacker and skill against a whole target list (AI scoring, area skills).
+     * Writes the damage each target would take from a non-critical hit; dead targets get 0.
+     * No RNG is used.
+     * @param skill Skill used, or null for a basic attack
+     * @param out At least targets.size() long
+     */
+    public static void calculateDamage(Character attacker, Skill skill, List<Character> targets, int[] out) {
+        checkLength(targets, out.length);
+        double[] modifiers = ELEMENT_MODIFIERS[attackElement(attacker, skill).ordinal()];
+        int attack = attacker.getModifiedAttack();
+        double multiplier = skill != null ? skill.getDamageMultiplier() : 1.0;
+
+        for (int i = 0, n = targets.size(); i < n; i++) {
+            Character target = targets.get(i);
+            out[i] = target.isAlive()
+                    ? computeDamage(attack, multiplier, modifiers[target.getElement().ordinal()],
+                            target.getModifiedDefenseWithBuffs(), false, target.isDefending())
+                    : 0;
         }
+    }
+
+    /**
+     * Like {@link #calculateDamage(Character, Skill, List, int[])} but writes the expected
+     * damage, weighting the critical hit by its chance. Deterministic, no RNG is used.
+     */
+    public static void expectedDamage(Character attacker, Skill skill, List<Character> targets, double[] out) {
+        checkLength(targets, out.length);
+        double[] modifiers = ELEMENT_MODIFIERS[attackElement(attacker, skill).ordinal()];
+        int attack = attacker.getModifiedAttack();
+        double multiplier = skill != null ? skill.getDamageMultiplier() : 1.0;
 
-        // Minimum Damage = 1
-        return Math.max(MIN_DAMAGE, (int) Math.round(finalDamage));
+        for (int i = 0, n = targets.size(); i < n; i++) {
+            Character target = targets.get(i);
+            if (!target.isAlive()) {
+                out[i] = 0;
+                continue;
+            }
+            double modifier = modifiers[target.getElement().ordinal()];
+            int defense = target.getModifiedDefenseWithBuffs();
+            boolean defending = target.isDefending();
+            out[i] = (1 - CRITICAL_CHANCE) * computeDamage(attack, multiplier, modifier, defense, false, defending)
+                    + CRITICAL_CHANCE * computeDamage(attack, multiplier, modifier, defense, true, defending);
+        }
     }
 
     /**
-     * Calculate basic attack damage (no skill)
+     * Min / expected / max damage and kill chance of one hit, without consuming RNG.
+     * Memoized in a small direct-mapped cache keyed by the formula inputs (safe to call every frame).
+     * @param skill Skill used, or null for a basic attack
      */
-    public static int calculateBasicAttack(Character attacker, Character defender) {
-        double baseDamage = attacker.getAttack();
-        double elementModifier = getElementModifier(attacker.getElement(), defender.getElement());
-        double defenseReduction = baseDamage * (defender.getDefense() / 200.0);
-        double criticalModifier = isCritical() ? CRITICAL_MULTIPLIER : 1.0;
+    public static DamagePreview preview(Character attacker, Character defender, Skill skill) {
+        Effectiveness effectiveness = getEffectiveness(attackElement(attacker, skill), defender.getElement());
+        double multiplier = skill != null ? skill.getDamageMultiplier() : 1.0;
+        int attack = attacker.getModifiedAttack();
+        int defense = defender.getModifiedDefenseWithBuffs();
+        boolean defending = defender.isDefending();
+
+        int slot = DamagePreview.slot(attack, multiplier, effectiveness, defense, defending, PREVIEW_CACHE.length);
+        DamagePreview cached = PREVIEW_CACHE[slot];
+        if (cached != null && cached.matches(attack, multiplier, effectiveness, defense, defending)) {
+            return cached;
+        }
 
-        double finalDamage = (baseDamage * elementModifier - defenseReduction) * criticalModifier;
+        double modifier = effectiveness.getModifier();
+        DamagePreview preview = new DamagePreview(attack, multiplier, effectiveness, defense, defending,
+                computeDamage(attack, multiplier, modifier, defense, false, defending),
+                computeDamage(attack, multiplier, modifier, defense, true, defending),
+                CRITICAL_CHANCE);
+        PREVIEW_CACHE[slot] = preview; // Entries are immutable, a racing write only costs a recompute
+        return preview;
+    }
+
+    private static Element attackElement(Character attacker, Skill skill) {
+        return skill != null && skill.getElement() != null ? skill.getElement() : attacker.getElement();
+    }
 
-        if (defender.isDefending()) {
-            finalDamage *= DEFEND_REDUCTION;
+    private static void checkLength(List<Character> targets, int length) {
+        if (length < targets.size()) {
+            throw new IllegalArgumentException("Output array too small: " + length + " < " + targets.size());
         }
+    }
+
+    /**
+     * One hit of a character on another, through the damage pipeline (item buffs and status effect
+     * modifiers such as SHIELDED included)
+     */
+    private static int hit(Character attacker, Character defender, double multiplier, double elementModifier,
+                           boolean critical) {
+        return PIPELINE.apply(attacker.getAttack(), attacker.getItemBuffValue(ItemBuffType.ATTACK),
+                StatusEffectDefinition.attackModifier(attacker.getStatusEffectMask()), multiplier, elementModifier,
+                defender.getDefense(), defender.getItemBuffValue(ItemBuffType.DEFENSE),
+                StatusEffectDefinition.defenseModifier(defender.getStatusEffectMask()), critical, defender.isDefending());
+    }
+
+    /**
+     * Damage formula on stats that are already modified (buffs applied)
+     */
+    static int computeDamage(int attack, double multiplier, double elementModifier,
+                             int defense, boolean critical, boolean defending) {
+        return PIPELINE.apply(attack, 0, 1.0, multiplier, elementModifier, defense, 0, 1.0, critical, defending);
+    }
 
-        return Math.max(MIN_DAMAGE, (int) Math.round(finalDamage));
+    /**
+     * Calculate basic attack damage (no skill)
+     */
+    public static int calculateBasicAttack(Character attacker, Character defender) {
+        return calculateBasicAttack(attacker, defender, ThreadLocalRandom.current());
+    }
+
+    /**
+     * Calculate basic attack damage, rolling critical hits on the given random source
+     */
+    public static int calculateBasicAttack(Character attacker, Character defender, RandomGenerator rng) {
+        double elementModifier = getElementModifier(attacker.getElement(), defender.getElement());
+        return hit(attacker, defender, 1.0, elementModifier, isCritical(rng));
     }
 
     /**
@@ -74,19 +207,33 @@ public class DamageCalculator {
      * Disadvantage: 0.7×
      */
     public static double getElementModifier(Element attackerElement, Element defenderElement) {
+        return ELEMENT_MODIFIERS[attackerElement.ordinal()][defenderElement.ordinal()];
+    }
+
+    /**
+     * Element matchup result (table lookup)
+     */
+    public static Effectiveness getEffectiveness(Element attackerElement, Element defenderElement) {
+        return EFFECTIVENESS[attackerElement.ordinal()][defenderElement.ordinal()];
+    }
+
+    /**
+     * Element rules, only used to build the lookup tables
+     */
+    private static Effectiveness matchup(Element attackerElement, Element defenderElement) {
         if (attackerElement == defenderElement) {
-            return 1.0;
+            return Effectiveness.NORMAL;
         }
 
         switch (attackerElement) {
             case FIRE:
-                return defenderElement == Element.EARTH ? 1.5 : 0.7;
+                return defenderElement == Element.EARTH ? Effectiveness.SUPER_EFFECTIVE : Effectiveness.NOT_VERY_EFFECTIVE;
             case EARTH:
-                return defenderElement == Element.WATER ? 1.5 : 0.7;
+                return defenderElement == Element.WATER ? Effectiveness.SUPER_EFFECTIVE : Effectiveness.NOT_VERY_EFFECTIVE;
             case WATER:
-                return defenderElement == Element.FIRE ? 1.5 : 0.7;
+                return defenderElement == Element.FIRE ? Effectiveness.SUPER_EFFECTIVE : Effectiveness.NOT_VERY_EFFECTIVE;
             default:
-                return 1.0;
+                return Effectiveness.NORMAL;
         }
     }
 
@@ -94,19 +241,22 @@ public class DamageCalculator {
      * Check if attack is critical (10% chance)
      */
     public static boolean isCritical() {
-        return random.nextDouble() < CRITICAL_CHANCE;
+        return isCritical(ThreadLocalRandom.current());
+    }
+
+    /**
+     * Check if attack is critical using the given random source
+     */
+    public static boolean isCritical(RandomGenerator rng) {
+        return rng.nextDouble() < CRITICAL_CHANCE;
     }
 
     /**
      * Get element advantage description
+     * @deprecated use {@link #getEffectiveness} and compare the enum instead of the text
      */
+    @Deprecated
     public static String getElementAdvantage(Element attackerElement, Element defenderElement) {
-        double modifier = getElementModifier(attackerElement, defenderElement);
-        if (modifier > 1.0) {
-            return "SUPER EFFECTIVE!";
-        } else if (modifier < 1.0) {
-            return "Not very effective...";
-        }
-        return "";
+        return getEffectiveness(attackerElement, defenderElement).getMessage();
     }
 }
@@ -0,0 +1,45 @@
+package com.elemental.model;
+
+/**
+ * Result of one damage calculation: damage, critical flag, element effectiveness
+ * and whether the defend reduction applied.
+ *
+ * Mutable so the hot path can reuse one instance per battle
+ * (see {@link DamageCalculator#resolve}); copy the values if you need to keep them.
+ */
+public final class DamageOutcome {
+    private int damage;
+    private boolean critical;
+    private Effectiveness effectiveness = Effectiveness.NORMAL;
+    private boolean defended;
+
+    void set(int damage, boolean critical, Effectiveness effectiveness, boolean defended) {
+        this.damage = damage;
+        this.critical = critical;
+        this.effectiveness = effectiveness;
+        this.defended = defended;
+    }
+
+    public int getDamage() {
+        return damage;
+    }
+
+    public boolean isCritical() {
+        return critical;
+    }
+
+    public Effectiveness getEffectiveness() {
+        return effectiveness;
+    }
+
+    public boolean isDefended() {
+        return defended;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d damage%s%s%s", damage, critical ? " (CRITICAL)" : "",
+                effectiveness != Effectiveness.NORMAL ? " " + effectiveness : "",
+                defended ? " (defended)" : "");
+    }
+}
@@ -0,0 +1,117 @@
+package com.elemental.model;
+
+/**
+ * Damage formula as an ordered list of stages, flattened once into an array.
+ *
+ * Each hit runs one loop over that array with a switch on the stage, on primitive values only
+ * (no per-hit allocation, no virtual calls), so {@link Battle} and {@link BattleKernel} share
+ * exactly the same rules. To add a modifier (gear, weather, ...) add a {@link Stage} in the
+ * right place and handle it in {@link #apply}.
+ */
+public final class DamagePipeline {
+    private static final double CRITICAL_MULTIPLIER = 1.5;
+    private static final double DEFEND_REDUCTION = 0.5; // 50% damage reduction
+    private static final int MIN_DAMAGE = 1;
+
+    /**
+     * Stages in the order they run. Buff stages change the input stats,
+     * later stages change the damage value.
+     */
+    public enum Stage {
+        ATTACK_BUFF,   // Item attack buff, otherwise status effect attack modifiers
+        DEFENSE_BUFF,  // Item defense buff, otherwise status effect defense modifiers (SHIELDED)
+        BASE,          // Base Damage = Attack × Skill Multiplier
+        ELEMENT,       // × Element modifier
+        DEFENSE,       // - Base Damage × (Defense / 200)
+        CRITICAL,      // × 1.5 on a critical hit
+        DEFEND         // × 0.5 while defending
+    }
+
+    /** All stages, used by {@link DamageCalculator} */
+    public static final DamagePipeline STANDARD = new DamagePipeline(Stage.values());
+
+    private final Stage[] stages;
+
+    /**
+     * @param stages Stages to run, in {@link Stage} order (no duplicates)
+     */
+    public DamagePipeline(Stage... stages) {
+        for (int i = 1; i < stages.length; i++) {
+            if (stages[i].ordinal() <= stages[i - 1].ordinal()) {
+                throw new IllegalArgumentException("Stages out of order: " + stages[i - 1] + " before " + stages[i]);
+            }
+        }
+        this.stages = stages.clone();
+    }
+
+    /**
+     * Run the pipeline for one hit
+     * @param attackBuff Attack item buff in percent, 0 = none
+     * @param attackModifier Attacker's status effect modifier (ignored while an attack item buff is active)
+     * @param defenseBuff Defense item buff in percent, 0 = none
+     * @param defenseModifier Defender's status effect modifier, e.g. SHIELDED
+     *                        (ignored while a defense item buff is active)
+     */
+    public int apply(int attack, int attackBuff, double attackModifier, double multiplier, double elementModifier,
+                     int defense, int defenseBuff, double defenseModifier, boolean critical, boolean defending) {
+        double base = 0;
+        double damage = 0;
+
+        for (Stage stage : stages) {
+            switch (stage) {
+                case ATTACK_BUFF:
+                    attack = modifiedAttack(attack, attackBuff, attackModifier);
+                    break;
+                case DEFENSE_BUFF:
+                    defense = modifiedDefense(defense, defenseBuff, defenseModifier);
+                    break;
+                case BASE:
+                    base = attack * multiplier;
+                    damage = base;
+                    break;
+                case ELEMENT:
+                    damage = base * elementModifier;
+                    break;
+                case DEFENSE:
+                    damage -= base * (defense / 200.0);
+                    break;
+                case CRITICAL:
+                    if (critical) {
+                        damage *= CRITICAL_MULTIPLIER;
+                    }
+                    break;
+                case DEFEND:
+                    if (defending) {
+                        damage *= DEFEND_REDUCTION;
+                    }
+                    break;
+            }
+        }
+
+        // Minimum Damage = 1
+        return Math.max(MIN_DAMAGE, (int) Math.round(damage));
+    }
+
+    /**
+     * Attack with an item buff or status effect modifier; the item buff replaces the modifier
+     * (same rule as {@link Character#getModifiedAttack})
+     */
+    static int modifiedAttack(int attack, int buffPercent, double effectModifier) {
+        return modified(attack, buffPercent, effectModifier);
+    }
+
+    /**
+     * Defense with an item buff or status effect modifier (e.g. SHIELDED); the item buff replaces
+     * the modifier (same rule as {@link Character#getModifiedDefenseWithBuffs})
+     */
+    static int modifiedDefense(int defense, int buffPercent, double effectModifier) {
+        return modified(defense, buffPercent, effectModifier);
+    }
+
+    private static int modified(int stat, int buffPercent, double effectModifier) {
+        if (buffPercent != 0) {
+            return (int) (stat * (1 + buffPercent / 100.0));
+        }
+        return effectModifier != 1.0 ? (int) (stat * effectModifier) : stat;
+    }
+}
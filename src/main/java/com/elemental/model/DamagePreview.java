@@ -0,0 +1,98 @@
+package com.elemental.model;
+
+/**
+ * Damage distribution of one hit (attacker, defender, skill or basic attack), computed without RNG.
+ * The only random part of a hit is the critical roll, so there are exactly two outcomes:
+ * min (normal hit) and max (critical hit).
+ *
+ * Immutable. Instances are memoized by {@link DamageCalculator#preview}, keyed by the inputs of
+ * the damage formula, so a change in stats, buffs or defend state simply maps to another entry.
+ */
+public final class DamagePreview {
+    // Key: inputs of the damage formula
+    private final int attack;
+    private final double multiplier;
+    private final Effectiveness effectiveness;
+    private final int defense;
+    private final boolean defending;
+
+    private final int min;
+    private final int max;
+    private final double criticalChance;
+
+    DamagePreview(int attack, double multiplier, Effectiveness effectiveness, int defense, boolean defending,
+                  int min, int max, double criticalChance) {
+        this.attack = attack;
+        this.multiplier = multiplier;
+        this.effectiveness = effectiveness;
+        this.defense = defense;
+        this.defending = defending;
+        this.min = min;
+        this.max = max;
+        this.criticalChance = criticalChance;
+    }
+
+    /**
+     * Cache slot for a key (table size must be a power of two)
+     */
+    static int slot(int attack, double multiplier, Effectiveness effectiveness, int defense, boolean defending,
+                    int tableSize) {
+        int h = attack;
+        h = 31 * h + defense;
+        h = 31 * h + Double.hashCode(multiplier);
+        h = 31 * h + effectiveness.ordinal();
+        h = 2 * h + (defending ? 1 : 0);
+        h ^= h >>> 16;
+        return h & (tableSize - 1);
+    }
+
+    boolean matches(int attack, double multiplier, Effectiveness effectiveness, int defense, boolean defending) {
+        return this.attack == attack && this.multiplier == multiplier && this.effectiveness == effectiveness
+                && this.defense == defense && this.defending == defending;
+    }
+
+    /**
+     * Damage of a normal hit
+     */
+    public int getMin() {
+        return min;
+    }
+
+    /**
+     * Damage of a critical hit
+     */
+    public int getMax() {
+        return max;
+    }
+
+    public double getExpected() {
+        return (1 - criticalChance) * min + criticalChance * max;
+    }
+
+    /**
+     * Chance that this hit brings the given HP to 0 (0, the critical chance, or 1)
+     */
+    public double getKillChance(int currentHP) {
+        if (min >= currentHP) {
+            return 1.0;
+        }
+        return max >= currentHP ? criticalChance : 0.0;
+    }
+
+    public boolean isGuaranteedKill(int currentHP) {
+        return min >= currentHP;
+    }
+
+    public Effectiveness getEffectiveness() {
+        return effectiveness;
+    }
+
+    public boolean isDefended() {
+        return defending;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d-%d damage (avg %.1f)", min, max, getExpected());
+    }
+}
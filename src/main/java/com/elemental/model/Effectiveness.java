@@ -0,0 +1,39 @@
+package com.elemental.model;
+
+/**
+ * Result of an element matchup (see {@link DamageCalculator#getEffectiveness}).
+ * Carries the damage modifier and a constant log line, so a hit never builds strings.
+ */
+public enum Effectiveness {
+    SUPER_EFFECTIVE(1.5, "SUPER EFFECTIVE!"),
+    NORMAL(1.0, ""),
+    NOT_VERY_EFFECTIVE(0.7, "Not very effective...");
+
+    private final double modifier;
+    private final String message;
+    private final String logText;
+
+    Effectiveness(double modifier, String message) {
+        this.modifier = modifier;
+        this.message = message;
+        this.logText = message.isEmpty() ? "" : ">>> " + message + " <<<";
+    }
+
+    public double getModifier() {
+        return modifier;
+    }
+
+    /**
+     * Description shown to the player ("" for NORMAL)
+     */
+    public String getMessage() {
+        return message;
+    }
+
+    /**
+     * Battle log line ("" for NORMAL)
+     */
+    String getLogText() {
+        return logText;
+    }
+}
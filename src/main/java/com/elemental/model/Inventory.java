@@ -24,6 +24,16 @@ public class Inventory {
         return instance;
     }
 
+    /**
+     * Create an inventory that is NOT the global one, for simulations and replays
+     * that must not change the player's items.
+     */
+    public static Inventory createStandalone(Map<String, Integer> items) {
+        Inventory inventory = new Inventory();
+        inventory.loadFromData(items);
+        return inventory;
+    }
+
     // Method untuk me-reset inventory (misal saat New Game)
     public void reset() {
         this.items.clear();
@@ -53,6 +63,23 @@ public class Inventory {
         return true;
     }
 
+    /**
+     * Add a batch of items (e.g. all drops of one battle) in one call.
+     * Each item follows the same rules as addItem; returns the names that did not fit.
+     */
+    public Set<String> addItems(Map<String, Integer> batch) {
+        Set<String> rejected = null;
+        for (Map.Entry<String, Integer> entry : batch.entrySet()) {
+            if (!addItem(entry.getKey(), entry.getValue())) {
+                if (rejected == null) {
+                    rejected = new HashSet<>();
+                }
+                rejected.add(entry.getKey());
+            }
+        }
+        return rejected != null ? rejected : Collections.emptySet();
+    }
+
     public boolean removeItem(String itemName, int quantity) {
         if (quantity <= 0 || !items.containsKey(itemName)) return false;
         int currentQty = items.get(itemName);
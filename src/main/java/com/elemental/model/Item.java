@@ -67,10 +67,10 @@ public class Item {
                 }
                 break;
             case BOOST_ATTACK:
-                target.applyItemBuff("ATTACK", value, duration);
+                target.applyItemBuff(ItemBuffType.ATTACK, value, duration);
                 break;
             case BOOST_DEFENSE:
-                target.applyItemBuff("DEFENSE", value, duration);
+                target.applyItemBuff(ItemBuffType.DEFENSE, value, duration);
                 break;
             case CURE_STATUS:
                 // Remove Poison and Burn status effects
@@ -0,0 +1,10 @@
+package com.elemental.model;
+
+/**
+ * Stat boosted by a temporary item buff (Attack Potion, Defense Potion).
+ * The ordinal is the buff slot in Character and BattleKernel.
+ */
+public enum ItemBuffType {
+    ATTACK,  // +% Attack
+    DEFENSE  // +% Defense, replaces the SHIELDED bonus
+}
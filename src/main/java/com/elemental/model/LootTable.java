@@ -0,0 +1,201 @@
+package com.elemental.model;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.reflect.TypeToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.random.RandomGenerator;
+
+/**
+ * Weighted item drop table, sampled in O(1) with Walker's alias method.
+ *
+ * Tables are defined in /data/loot_tables.json. An enemy uses the table named after its class
+ * (e.g. "mage") if there is one, otherwise "default".
+ */
+public final class LootTable {
+    public static final String RESOURCE = "/data/loot_tables.json";
+    public static final String DEFAULT_TABLE = "default";
+
+    private static Map<String, LootTable> tables; // Loaded on first use
+
+    private final Entry[] entries;
+    private final double[] probability;
+    private final int[] alias;
+
+    /**
+     * One possible drop (JSON: { "item": ..., "weight": ..., "rare": ... })
+     */
+    public static final class Entry {
+        private String item;
+        private double weight;
+        private boolean rare;
+
+        public Entry(String item, double weight, boolean rare) {
+            this.item = item;
+            this.weight = weight;
+            this.rare = rare;
+        }
+
+        public String getItem() { return item; }
+        public double getWeight() { return weight; }
+        public boolean isRare() { return rare; }
+    }
+
+    public LootTable(List<Entry> entries) {
+        if (entries == null || entries.isEmpty()) {
+            throw new IllegalArgumentException("Loot table must have at least one entry!");
+        }
+        this.entries = entries.toArray(new Entry[0]);
+        int n = this.entries.length;
+
+        double total = 0;
+        for (Entry entry : this.entries) {
+            if (entry == null || entry.item == null || entry.item.isEmpty()) {
+                throw new IllegalArgumentException("Loot entry must name an item!");
+            }
+            if (!(entry.weight > 0) || Double.isInfinite(entry.weight)) {
+                throw new IllegalArgumentException("Invalid weight for " + entry.item + ": " + entry.weight);
+            }
+            total += entry.weight;
+        }
+
+        // Vose's alias construction: split columns into "small" (< 1) and "large" (>= 1)
+        this.probability = new double[n];
+        this.alias = new int[n];
+        double[] scaled = new double[n];
+        int[] small = new int[n];
+        int[] large = new int[n];
+        int smallCount = 0;
+        int largeCount = 0;
+        for (int i = 0; i < n; i++) {
+            scaled[i] = this.entries[i].weight * n / total;
+            if (scaled[i] < 1.0) {
+                small[smallCount++] = i;
+            } else {
+                large[largeCount++] = i;
+            }
+        }
+        while (smallCount > 0 && largeCount > 0) {
+            int less = small[--smallCount];
+            int more = large[--largeCount];
+            probability[less] = scaled[less];
+            alias[less] = more;
+            scaled[more] = (scaled[more] + scaled[less]) - 1.0;
+            if (scaled[more] < 1.0) {
+                small[smallCount++] = more;
+            } else {
+                large[largeCount++] = more;
+            }
+        }
+        // Leftovers are full columns (only rounding error keeps them off exactly 1)
+        while (largeCount > 0) {
+            int i = large[--largeCount];
+            probability[i] = 1.0;
+            alias[i] = i;
+        }
+        while (smallCount > 0) {
+            int i = small[--smallCount];
+            probability[i] = 1.0;
+            alias[i] = i;
+        }
+    }
+
+    /**
+     * Roll one drop: one column pick plus one coin flip, no allocation
+     */
+    public Entry roll(RandomGenerator random) {
+        int column = random.nextInt(entries.length);
+        return random.nextDouble() < probability[column] ? entries[column] : entries[alias[column]];
+    }
+
+    /**
+     * Chance of dropping the given entry (0 - 1)
+     */
+    public double getChance(String item) {
+        double total = 0;
+        double weight = 0;
+        for (Entry entry : entries) {
+            total += entry.weight;
+            if (entry.item.equals(item)) {
+                weight += entry.weight;
+            }
+        }
+        return weight / total;
+    }
+
+    public List<Entry> getEntries() {
+        return Collections.unmodifiableList(Arrays.asList(entries));
+    }
+
+    // ==================== REGISTRY ====================
+
+    /**
+     * Table used for an enemy's drops
+     */
+    public static LootTable forEnemy(Character enemy) {
+        Map<String, LootTable> loaded = getTables();
+        LootTable byClass = loaded.get(enemy.getCharacterClass().name().toLowerCase(Locale.ROOT));
+        return byClass != null ? byClass : loaded.get(DEFAULT_TABLE);
+    }
+
+    /**
+     * Table by name, null if not defined
+     */
+    public static LootTable get(String name) {
+        return getTables().get(name);
+    }
+
+    private static synchronized Map<String, LootTable> getTables() {
+        if (tables == null) {
+            try (InputStream in = LootTable.class.getResourceAsStream(RESOURCE)) {
+                if (in == null) {
+                    throw new IllegalStateException("Loot table resource not found: " + RESOURCE);
+                }
+                tables = parse(new InputStreamReader(in, StandardCharsets.UTF_8));
+            } catch (IOException e) {
+                throw new IllegalStateException("Failed to read loot tables: " + e.getMessage(), e);
+            }
+        }
+        return tables;
+    }
+
+    /**
+     * Parse a JSON object of named tables (must contain a "default" table)
+     */
+    static Map<String, LootTable> parse(Reader json) {
+        Type type = new TypeToken<Map<String, List<Entry>>>() {}.getType();
+        Map<String, List<Entry>> raw;
+        try {
+            raw = new Gson().fromJson(json, type);
+        } catch (JsonParseException e) {
+            throw new IllegalStateException("Invalid loot tables: " + e.getMessage(), e);
+        }
+        if (raw == null || !raw.containsKey(DEFAULT_TABLE)) {
+            throw new IllegalStateException("Loot tables must define a '" + DEFAULT_TABLE + "' table!");
+        }
+
+        Map<String, LootTable> parsed = new HashMap<>();
+        for (Map.Entry<String, List<Entry>> table : raw.entrySet()) {
+            List<Entry> entries = table.getValue() != null ? table.getValue() : new ArrayList<>();
+            try {
+                parsed.put(table.getKey().toLowerCase(Locale.ROOT), new LootTable(entries));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalStateException("Invalid loot table '" + table.getKey() + "': " + e.getMessage(), e);
+            }
+        }
+        return Collections.unmodifiableMap(parsed);
+    }
+}
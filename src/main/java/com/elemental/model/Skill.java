@@ -4,18 +4,26 @@ import java.util.ArrayList;
 import java.util.List;
 
 public class Skill {
-    private String name;
-    private int mpCost;
-    private double damageMultiplier;
-    private SkillType skillType;
-    private Element element; // Elemental attribute for skills
+    private final String name;
+    private final int mpCost;
+    private final double damageMultiplier;
+    private final SkillType skillType;
+    private final Element element; // Elemental attribute for skills
+    private final SkillEffect effect; // Secondary effect, resolved once here
 
     public Skill(String name, int mpCost, double damageMultiplier, SkillType skillType, Element element) {
+        this(name, mpCost, damageMultiplier, skillType, element, SkillEffect.resolve(name, skillType));
+    }
+
+    // Constructor for skills that declare their secondary effect as data
+    public Skill(String name, int mpCost, double damageMultiplier, SkillType skillType, Element element,
+                 SkillEffect effect) {
         this.name = name;
         this.mpCost = mpCost;
         this.damageMultiplier = damageMultiplier;
         this.skillType = skillType;
         this.element = element;
+        this.effect = effect != null ? effect : SkillEffect.NONE;
     }
 
     // Constructor for non-elemental skills (buffs, heals)
@@ -44,6 +52,10 @@ public class Skill {
         return element;
     }
 
+    public SkillEffect getEffect() {
+        return effect;
+    }
+
     // Factory methods for each class skills
     public static List<Skill> getMageSkills(Element element) {
         List<Skill> skills = new ArrayList<>();
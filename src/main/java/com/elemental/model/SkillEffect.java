@@ -0,0 +1,99 @@
+package com.elemental.model;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Secondary effect of a skill: which status effect, proc chance, duration and who receives it.
+ * Resolved once when the Skill is built, so casting a skill does no name matching.
+ */
+public final class SkillEffect {
+    public static final SkillEffect NONE = new SkillEffect(null, 0, 0, false);
+
+    private final StatusEffectType statusEffect;
+    private final double chance;
+    private final int duration;
+    private final boolean onSelf;
+
+    private SkillEffect(StatusEffectType statusEffect, double chance, int duration, boolean onSelf) {
+        this.statusEffect = statusEffect;
+        this.chance = chance;
+        this.duration = duration;
+        this.onSelf = onSelf;
+    }
+
+    /**
+     * Effect on the skill's target with the given proc chance (1.0 = always)
+     */
+    public static SkillEffect onTarget(StatusEffectType statusEffect, double chance, int duration) {
+        return of(statusEffect, chance, duration, false);
+    }
+
+    /**
+     * Effect that always lands on the caster
+     */
+    public static SkillEffect onSelf(StatusEffectType statusEffect, int duration) {
+        return of(statusEffect, 1.0, duration, true);
+    }
+
+    private static SkillEffect of(StatusEffectType statusEffect, double chance, int duration, boolean onSelf) {
+        if (statusEffect == null) {
+            throw new IllegalArgumentException("Status effect cannot be null!");
+        }
+        if (!(chance > 0 && chance <= 1)) {
+            throw new IllegalArgumentException("Chance must be in (0, 1]: " + chance);
+        }
+        if (duration < 1) {
+            throw new IllegalArgumentException("Duration must be at least 1!");
+        }
+        return new SkillEffect(statusEffect, chance, duration, onSelf);
+    }
+
+    /**
+     * Effect of a built-in skill, from the name rules that used to run on every cast
+     */
+    static SkillEffect resolve(String name, SkillType skillType) {
+        if (skillType == SkillType.DAMAGE) {
+            if (name.equals("Shield Bash")) {
+                return onTarget(StatusEffectType.STUN, 0.3, 1);
+            } else if (name.equals("Poison Arrow")) {
+                return onTarget(StatusEffectType.POISON, 1.0, 3);
+            } else if (name.contains("Fire") || name.contains("Flame")) {
+                return onTarget(StatusEffectType.BURN, 0.2, 2);
+            }
+        } else if (skillType == SkillType.BUFF) {
+            if (name.equals("Iron Defense")) {
+                return onSelf(StatusEffectType.SHIELDED, 2);
+            } else if (name.equals("Quick Step")) {
+                return onSelf(StatusEffectType.SPEED_BUFF, 3);
+            }
+        }
+        return NONE;
+    }
+
+    /**
+     * Roll the proc chance; draws from the RNG only when the chance is below 100%
+     */
+    public boolean procs(RandomGenerator random) {
+        return chance >= 1.0 || random.nextDouble() < chance;
+    }
+
+    public boolean isNone() {
+        return statusEffect == null;
+    }
+
+    public StatusEffectType getStatusEffect() {
+        return statusEffect;
+    }
+
+    public double getChance() {
+        return chance;
+    }
+
+    public int getDuration() {
+        return duration;
+    }
+
+    public boolean isOnSelf() {
+        return onSelf;
+    }
+}
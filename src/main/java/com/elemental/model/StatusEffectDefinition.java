@@ -0,0 +1,256 @@
+package com.elemental.model;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.reflect.TypeToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * Rules of one status effect as data: stacking, damage per turn and stat modifiers.
+ *
+ * Definitions are loaded from /data/status_effects.json, keyed by {@link StatusEffectType} name.
+ * A new effect only needs a constant in StatusEffectType and an entry in that file (no class).
+ * Runtime state (remaining turns, stacks) lives in {@link StatusEffectEngine} and BattleKernel
+ * arrays, so applying and ticking effects allocates nothing.
+ */
+public final class StatusEffectDefinition {
+    public static final String RESOURCE = "/data/status_effects.json";
+
+    static {
+        // Character snapshots and BattleKernel keep the active effects in an int mask
+        if (StatusEffectType.values().length > Integer.SIZE) {
+            throw new IllegalStateException("At most " + Integer.SIZE + " status effect types are supported!");
+        }
+    }
+
+    /**
+     * What re-applying an active effect does
+     */
+    public enum StackRule {
+        REFRESH,   // New duration replaces the remaining turns
+        EXTEND,    // New duration is added to the remaining turns
+        INTENSIFY  // One more stack (up to maxStacks), duration refreshed
+    }
+
+    private StatusEffectType type;
+    private StackRule stacking = StackRule.REFRESH;
+    private int maxStacks = 1;
+    private double tickRate;              // Share of max HP lost per stack per turn
+    private double attackModifier = 1.0;  // × Attack, replaced by an attack item buff
+    private double defenseModifier = 1.0; // × Defense, replaced by a defense item buff
+    private double speedModifier = 1.0;   // × Speed
+
+    private StatusEffectDefinition() {
+        // Defaults for fields missing in JSON
+    }
+
+    public StatusEffectDefinition(StatusEffectType type, StackRule stacking, int maxStacks, double tickRate,
+                                  double attackModifier, double defenseModifier, double speedModifier) {
+        this.type = type;
+        this.stacking = stacking;
+        this.maxStacks = maxStacks;
+        this.tickRate = tickRate;
+        this.attackModifier = attackModifier;
+        this.defenseModifier = defenseModifier;
+        this.speedModifier = speedModifier;
+        validate();
+    }
+
+    private void validate() {
+        if (type == null || stacking == null) {
+            throw new IllegalArgumentException("Status effect needs a type and a stack rule!");
+        }
+        if (maxStacks < 1) {
+            throw new IllegalArgumentException("Invalid max stacks for " + type + ": " + maxStacks);
+        }
+        if (!(tickRate >= 0) || Double.isInfinite(tickRate)) {
+            throw new IllegalArgumentException("Invalid tick rate for " + type + ": " + tickRate);
+        }
+        for (double modifier : new double[]{attackModifier, defenseModifier, speedModifier}) {
+            if (!(modifier > 0) || Double.isInfinite(modifier)) {
+                throw new IllegalArgumentException("Invalid stat modifier for " + type + ": " + modifier);
+            }
+        }
+    }
+
+    public StatusEffectType getType() { return type; }
+    public StackRule getStacking() { return stacking; }
+    public int getMaxStacks() { return maxStacks; }
+    public double getTickRate() { return tickRate; }
+    public double getAttackModifier() { return attackModifier; }
+    public double getDefenseModifier() { return defenseModifier; }
+    public double getSpeedModifier() { return speedModifier; }
+
+    /**
+     * Damage of one tick with the given stacks
+     */
+    public int tickDamage(int maxHP, int stacks) {
+        return (int) (maxHP * tickRate) * stacks;
+    }
+
+    /**
+     * Remaining turns after re-applying the effect
+     */
+    public int reappliedDuration(int remaining, int duration) {
+        return stacking == StackRule.EXTEND ? remaining + duration : duration;
+    }
+
+    /**
+     * Stacks after re-applying the effect
+     */
+    public int reappliedStacks(int stacks) {
+        return stacking == StackRule.INTENSIFY ? Math.min(maxStacks, stacks + 1) : stacks;
+    }
+
+    // ==================== REGISTRY ====================
+
+    /**
+     * Definition of an effect (array lookup, no allocation)
+     */
+    public static StatusEffectDefinition get(StatusEffectType type) {
+        return Registry.DEFINITIONS[type.ordinal()];
+    }
+
+    /**
+     * Effects that deal damage each turn, as bits (1L << ordinal)
+     */
+    public static long damageOverTimeMask() {
+        return Registry.DAMAGE_OVER_TIME;
+    }
+
+    /**
+     * Effects that change speed, as bits (1L << ordinal)
+     */
+    public static long speedEffectMask() {
+        return Registry.SPEED_EFFECTS;
+    }
+
+    /**
+     * Product of the attack modifiers of the effects in mask
+     */
+    public static double attackModifier(long mask) {
+        double modifier = 1.0;
+        for (long bits = mask & Registry.ATTACK_EFFECTS; bits != 0; bits &= bits - 1) {
+            modifier *= Registry.DEFINITIONS[Long.numberOfTrailingZeros(bits)].attackModifier;
+        }
+        return modifier;
+    }
+
+    /**
+     * Product of the defense modifiers of the effects in mask
+     */
+    public static double defenseModifier(long mask) {
+        double modifier = 1.0;
+        for (long bits = mask & Registry.DEFENSE_EFFECTS; bits != 0; bits &= bits - 1) {
+            modifier *= Registry.DEFINITIONS[Long.numberOfTrailingZeros(bits)].defenseModifier;
+        }
+        return modifier;
+    }
+
+    /**
+     * Speed with the modifiers of the effects in mask
+     */
+    public static int modifiedSpeed(int speed, long mask) {
+        double modifier = 1.0;
+        for (long bits = mask & Registry.SPEED_EFFECTS; bits != 0; bits &= bits - 1) {
+            modifier *= Registry.DEFINITIONS[Long.numberOfTrailingZeros(bits)].speedModifier;
+        }
+        return modifier != 1.0 ? (int) (speed * modifier) : speed;
+    }
+
+    /**
+     * Loaded on first use (holder class: no lock on lookups)
+     */
+    private static final class Registry {
+        static final StatusEffectDefinition[] DEFINITIONS = load();
+        static final long DAMAGE_OVER_TIME;
+        static final long ATTACK_EFFECTS;
+        static final long DEFENSE_EFFECTS;
+        static final long SPEED_EFFECTS;
+
+        static {
+            long damageOverTime = 0;
+            long attackEffects = 0;
+            long defenseEffects = 0;
+            long speedEffects = 0;
+            for (StatusEffectDefinition definition : DEFINITIONS) {
+                long bit = 1L << definition.type.ordinal();
+                if (definition.tickRate > 0) {
+                    damageOverTime |= bit;
+                }
+                if (definition.attackModifier != 1.0) {
+                    attackEffects |= bit;
+                }
+                if (definition.defenseModifier != 1.0) {
+                    defenseEffects |= bit;
+                }
+                if (definition.speedModifier != 1.0) {
+                    speedEffects |= bit;
+                }
+            }
+            DAMAGE_OVER_TIME = damageOverTime;
+            ATTACK_EFFECTS = attackEffects;
+            DEFENSE_EFFECTS = defenseEffects;
+            SPEED_EFFECTS = speedEffects;
+        }
+
+        private static StatusEffectDefinition[] load() {
+            try (InputStream in = StatusEffectDefinition.class.getResourceAsStream(RESOURCE)) {
+                if (in == null) {
+                    throw new IllegalStateException("Status effect resource not found: " + RESOURCE);
+                }
+                return parse(new InputStreamReader(in, StandardCharsets.UTF_8));
+            } catch (IOException e) {
+                throw new IllegalStateException("Failed to read status effects: " + e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * Parse a JSON object of definitions by effect name; every StatusEffectType must be defined
+     * @return definitions by ordinal
+     */
+    static StatusEffectDefinition[] parse(Reader json) {
+        Type type = new TypeToken<Map<String, StatusEffectDefinition>>() {}.getType();
+        Map<String, StatusEffectDefinition> raw;
+        try {
+            raw = new Gson().fromJson(json, type);
+        } catch (JsonParseException e) {
+            throw new IllegalStateException("Invalid status effects: " + e.getMessage(), e);
+        }
+        if (raw == null) {
+            throw new IllegalStateException("No status effects defined!");
+        }
+
+        StatusEffectDefinition[] parsed = new StatusEffectDefinition[StatusEffectType.values().length];
+        for (Map.Entry<String, StatusEffectDefinition> entry : raw.entrySet()) {
+            StatusEffectType effectType;
+            try {
+                effectType = StatusEffectType.valueOf(entry.getKey());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalStateException("Unknown status effect: " + entry.getKey(), e);
+            }
+            StatusEffectDefinition definition = entry.getValue() != null ? entry.getValue() : new StatusEffectDefinition();
+            definition.type = effectType;
+            try {
+                definition.validate();
+            } catch (IllegalArgumentException e) {
+                throw new IllegalStateException("Invalid status effect '" + entry.getKey() + "': " + e.getMessage(), e);
+            }
+            parsed[effectType.ordinal()] = definition;
+        }
+        for (StatusEffectType effectType : StatusEffectType.values()) {
+            if (parsed[effectType.ordinal()] == null) {
+                throw new IllegalStateException("Status effect not defined: " + effectType);
+            }
+        }
+        return parsed;
+    }
+}
@@ -0,0 +1,146 @@
+package com.elemental.model;
+
+import java.util.Arrays;
+
+/**
+ * Status effects of one character, scheduled on a turn-indexed timing wheel.
+ *
+ * The clock advances once per end of the owner's turn. Each effect is filed in the wheel slot of
+ * the tick it expires on, so a tick only looks at the effects due in that slot (hashed wheel:
+ * an entry more than one lap away stays until its tick comes round) plus the damage-over-time bits.
+ * Damage, stacking and stat modifiers come from {@link StatusEffectDefinition}; stacks are
+ * kept in a preallocated array, so applying, ticking and expiring allocate nothing.
+ */
+public final class StatusEffectEngine {
+    private static final int WHEEL_SIZE = 8; // Power of two, longer than the usual durations
+    private static final int EFFECT_COUNT = StatusEffectType.values().length;
+
+    private long active;       // Bit (1L << ordinal) per active effect
+    private int clock;         // Ticks processed so far
+    private final int[] expiry = new int[EFFECT_COUNT]; // Tick on which each active effect ends
+    private final int[] stacks = new int[EFFECT_COUNT]; // Stacks of each active effect
+    private final long[] wheel = new long[WHEEL_SIZE];  // Effects filed by expiry tick
+
+    /**
+     * Damage one tick of a single stack deals (0 for effects that deal no damage)
+     */
+    public static int tickDamage(StatusEffectType effectType, int maxHP) {
+        return StatusEffectDefinition.get(effectType).tickDamage(maxHP, 1);
+    }
+
+    public static boolean isDamageOverTime(StatusEffectType effectType) {
+        return (StatusEffectDefinition.damageOverTimeMask() & (1L << effectType.ordinal())) != 0;
+    }
+
+    /**
+     * Start an effect, or re-apply it following its stack rule; durations below 1 last one tick
+     */
+    void apply(StatusEffectType effectType, int duration) {
+        apply(StatusEffectDefinition.get(effectType), duration);
+    }
+
+    void apply(StatusEffectDefinition definition, int duration) {
+        int ordinal = definition.getType().ordinal();
+        if (has(definition.getType())) {
+            duration = definition.reappliedDuration(expiry[ordinal] - clock, duration);
+            stacks[ordinal] = definition.reappliedStacks(stacks[ordinal]);
+        } else {
+            stacks[ordinal] = 1;
+        }
+        schedule(ordinal, duration);
+    }
+
+    private void schedule(int ordinal, int duration) {
+        unschedule(ordinal);
+        active |= 1L << ordinal;
+        expiry[ordinal] = clock + Math.max(1, duration);
+        wheel[expiry[ordinal] & (WHEEL_SIZE - 1)] |= 1L << ordinal;
+    }
+
+    /**
+     * Set an effect's remaining ticks and stacks as recorded (no stack rule)
+     */
+    void set(StatusEffectType effectType, int duration, int stackCount) {
+        int ordinal = effectType.ordinal();
+        schedule(ordinal, duration);
+        stacks[ordinal] = Math.max(1, stackCount);
+    }
+
+    void remove(StatusEffectType effectType) {
+        remove(effectType.ordinal());
+    }
+
+    private void unschedule(int ordinal) {
+        long bit = 1L << ordinal;
+        if ((active & bit) != 0) {
+            wheel[expiry[ordinal] & (WHEEL_SIZE - 1)] &= ~bit;
+            active &= ~bit;
+        }
+    }
+
+    private void remove(int ordinal) {
+        unschedule(ordinal);
+        stacks[ordinal] = 0;
+    }
+
+    boolean has(StatusEffectType effectType) {
+        return (active & (1L << effectType.ordinal())) != 0;
+    }
+
+    /**
+     * Remaining ticks (turns), 0 if not active
+     */
+    int getRemaining(StatusEffectType effectType) {
+        return has(effectType) ? expiry[effectType.ordinal()] - clock : 0;
+    }
+
+    /**
+     * Stacks of an effect, 0 if not active
+     */
+    int getStacks(StatusEffectType effectType) {
+        return stacks[effectType.ordinal()];
+    }
+
+    long getMask() {
+        return active;
+    }
+
+    /**
+     * Active effects that deal damage this tick
+     */
+    long getDamageOverTime() {
+        return active & StatusEffectDefinition.damageOverTimeMask();
+    }
+
+    /**
+     * Advance the clock one tick.
+     * @return effects that end on this tick (still active: the caller removes them)
+     */
+    long advance() {
+        clock++;
+        int slot = clock & (WHEEL_SIZE - 1);
+        long expired = 0;
+        for (long due = wheel[slot] & active; due != 0; due &= due - 1) {
+            int ordinal = Long.numberOfTrailingZeros(due);
+            if (expiry[ordinal] == clock) {
+                expired |= 1L << ordinal;
+            }
+        }
+        return expired;
+    }
+
+    /**
+     * Replace all effects (snapshot restore)
+     * @param state Remaining turns and stacks by ordinal, read for the bits set in mask
+     */
+    void restore(long mask, int[] state, int durationOffset, int stackOffset) {
+        active = 0;
+        Arrays.fill(wheel, 0);
+        Arrays.fill(stacks, 0);
+        for (long bits = mask; bits != 0; bits &= bits - 1) {
+            int ordinal = Long.numberOfTrailingZeros(bits);
+            schedule(ordinal, state[durationOffset + ordinal]);
+            stacks[ordinal] = Math.max(1, state[stackOffset + ordinal]);
+        }
+    }
+}
@@ -1,10 +1,23 @@
 package com.elemental.model;
 
+/**
+ * Status effect keys. Rules (stacking, damage, stat modifiers) are data in
+ * /data/status_effects.json, see {@link StatusEffectDefinition}.
+ */
 public enum StatusEffectType {
     POISON,    // 5% max HP/turn, 3 turns
     BURN,      // 7% max HP/turn, 2 turns
     STUN,      // Skip turn, 1 turn
     SHIELDED,  // +50% Defense, 2 turns
-    SPEED_BUFF // +30% Speed, 3 turns
+    SPEED_BUFF; // +30% Speed, 3 turns
+
+    private static final StatusEffectType[] VALUES = values();
+
+    /**
+     * Effect for an ordinal (e.g. a bit of {@link Character#getStatusEffectMask()}), no array copy
+     */
+    public static StatusEffectType fromOrdinal(int ordinal) {
+        return VALUES[ordinal];
+    }
 }
 
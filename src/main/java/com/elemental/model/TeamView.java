@@ -0,0 +1,286 @@
+package com.elemental.model;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Read-only, indexed view of one battle team (returned by
+ * {@link Battle#getPlayerTeam()} / {@link Battle#getEnemyTeam()}).
+ *
+ * Members report HP, attack and alive changes to the view, so the view keeps:
+ * - the alive count and an index of alive members (n-th alive in O(log n))
+ * - O(1) contains / indexOf
+ * - score indexes for lowest / highest queries in O(log n) after the first use
+ *
+ * Large raid battles (hundreds of combatants per side) use these instead of
+ * copying and scanning the team on every turn.
+ *
+ * A character reports to one view at a time (the one created last). If a member
+ * is put into a newer view (e.g. the next battle), this view falls back to
+ * rebuilding on every query and linear indexOf: slower, but never stale.
+ */
+public final class TeamView extends AbstractList<Character> implements RandomAccess {
+    private final Character.StateListener listener = new Character.StateListener() {
+        @Override
+        public void onStateChanged(int slot) {
+            update(slot);
+        }
+
+        @Override
+        public void onDetached(int slot) {
+            detached = true;
+        }
+    };
+    private final Character[] members;
+    private final boolean[] alive;
+    private final int[] aliveTree; // Fenwick tree over alive flags (1-based)
+    private int aliveCount;
+    private ScoreIndex[] indexes = new ScoreIndex[0];
+    private boolean detached; // A member now reports to another view
+
+    TeamView(List<Character> team) {
+        this.members = team.toArray(new Character[0]);
+        this.alive = new boolean[members.length];
+        this.aliveTree = new int[members.length + 1];
+        for (int i = 0; i < members.length; i++) {
+            members[i].setStateListener(listener, i);
+        }
+        refresh();
+    }
+
+    // ==================== LIST ====================
+
+    @Override
+    public Character get(int index) {
+        return members[index];
+    }
+
+    @Override
+    public int size() {
+        return members.length;
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        if (o instanceof Character) {
+            Character c = (Character) o;
+            if (c.getStateListener() == listener) {
+                int slot = c.getStateSlot();
+                return members[slot] == c ? slot : -1;
+            }
+            for (int i = 0; i < members.length; i++) {
+                if (members[i] == c) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        return indexOf(o);
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    // ==================== QUERIES ====================
+
+    public int getAliveCount() {
+        syncIfDetached();
+        return aliveCount;
+    }
+
+    /**
+     * The n-th alive member in team order (0-based), null if there are not that many
+     */
+    public Character getAlive(int n) {
+        syncIfDetached();
+        if (n < 0 || n >= aliveCount) {
+            return null;
+        }
+        // Fenwick search for the smallest position whose prefix sum is n + 1
+        int position = 0;
+        int remaining = n + 1;
+        for (int step = Integer.highestOneBit(members.length); step > 0; step >>= 1) {
+            int next = position + step;
+            if (next <= members.length && aliveTree[next] < remaining) {
+                position = next;
+                remaining -= aliveTree[next];
+            }
+        }
+        return members[position];
+    }
+
+    /**
+     * Alive member with the lowest current HP (first in team order on ties)
+     */
+    public Character getLowestHP() {
+        return lowest(CURRENT_HP);
+    }
+
+    /**
+     * Alive member with the lowest score (first in team order on ties), null if none.
+     * Members scoring NaN are skipped. The index for a score function is built on first use
+     * and kept up to date, so pass the same function instance every time; the score may
+     * only depend on HP, max HP, attack and element.
+     */
+    public Character lowest(ToDoubleFunction<Character> score) {
+        return best(score, false);
+    }
+
+    /**
+     * Alive member with the highest score (first in team order on ties), null if none.
+     * Same rules as {@link #lowest}.
+     */
+    public Character highest(ToDoubleFunction<Character> score) {
+        return best(score, true);
+    }
+
+    private static final ToDoubleFunction<Character> CURRENT_HP = Character::getCurrentHP;
+
+    private Character best(ToDoubleFunction<Character> score, boolean highest) {
+        syncIfDetached();
+        ScoreIndex index = null;
+        for (ScoreIndex existing : indexes) {
+            if (existing.score == score && existing.highest == highest) {
+                index = existing;
+                break;
+            }
+        }
+        if (index == null) {
+            index = new ScoreIndex(score, highest);
+            ScoreIndex[] grown = new ScoreIndex[indexes.length + 1];
+            System.arraycopy(indexes, 0, grown, 0, indexes.length);
+            grown[indexes.length] = index;
+            indexes = grown;
+        }
+        int slot = index.best();
+        return slot >= 0 ? members[slot] : null;
+    }
+
+    // ==================== UPDATES ====================
+
+    private void update(int slot) {
+        boolean nowAlive = members[slot].isAlive();
+        if (nowAlive != alive[slot]) {
+            alive[slot] = nowAlive;
+            aliveCount += nowAlive ? 1 : -1;
+            for (int i = slot + 1; i <= members.length; i += i & -i) {
+                aliveTree[i] += nowAlive ? 1 : -1;
+            }
+        }
+        for (ScoreIndex index : indexes) {
+            index.update(slot);
+        }
+    }
+
+    /**
+     * Detached members no longer report changes, so rebuild before answering
+     */
+    private void syncIfDetached() {
+        if (detached) {
+            refresh();
+        }
+    }
+
+    /**
+     * Rebuild alive flags and score indexes from scratch
+     */
+    void refresh() {
+        aliveCount = 0;
+        Arrays.fill(aliveTree, 0);
+        for (int i = 0; i < members.length; i++) {
+            alive[i] = members[i].isAlive();
+            if (alive[i]) {
+                aliveCount++;
+                aliveTree[i + 1]++;
+            }
+        }
+        for (int i = 1; i <= members.length; i++) {
+            int parent = i + (i & -i);
+            if (parent <= members.length) {
+                aliveTree[parent] += aliveTree[i];
+            }
+        }
+        for (ScoreIndex index : indexes) {
+            index.rebuild();
+        }
+    }
+
+    /**
+     * Segment tree over member scores; each node holds the best slot of its range (-1 = none)
+     */
+    private final class ScoreIndex {
+        private final ToDoubleFunction<Character> score;
+        private final boolean highest;
+        private final double[] values;
+        private final int[] tree;
+        private final int leaves;
+
+        ScoreIndex(ToDoubleFunction<Character> score, boolean highest) {
+            this.score = score;
+            this.highest = highest;
+            this.values = new double[members.length];
+            int size = 1;
+            while (size < members.length) {
+                size <<= 1;
+            }
+            this.leaves = size;
+            this.tree = new int[size * 2];
+            rebuild();
+        }
+
+        int best() {
+            return tree[1];
+        }
+
+        void rebuild() {
+            Arrays.fill(tree, -1);
+            for (int slot = 0; slot < members.length; slot++) {
+                tree[leaves + slot] = score(slot);
+            }
+            for (int node = leaves - 1; node >= 1; node--) {
+                tree[node] = pick(tree[node * 2], tree[node * 2 + 1]);
+            }
+        }
+
+        void update(int slot) {
+            int node = leaves + slot;
+            tree[node] = score(slot);
+            for (node >>= 1; node >= 1; node >>= 1) {
+                tree[node] = pick(tree[node * 2], tree[node * 2 + 1]);
+            }
+        }
+
+        /**
+         * Store the slot's score, return the slot if it takes part in the index
+         */
+        private int score(int slot) {
+            if (!alive[slot]) {
+                return -1;
+            }
+            double value = score.applyAsDouble(members[slot]);
+            values[slot] = value;
+            return Double.isNaN(value) ? -1 : slot;
+        }
+
+        /**
+         * Better of two slots, the left (earlier) one on ties
+         */
+        private int pick(int left, int right) {
+            if (left < 0) return right;
+            if (right < 0) return left;
+            if (highest) {
+                return values[right] > values[left] ? right : left;
+            }
+            return values[right] < values[left] ? right : left;
+        }
+    }
+}
@@ -0,0 +1,264 @@
+package com.elemental.model;
+
+import java.util.List;
+
+/**
+ * FR-BATTLE-002: Turn order scheduler
+ * Keeps all combatants in a reusable array sorted by modified speed (highest first).
+ * The order is only re-sorted when a speed actually changed (e.g. SPEED_BUFF applied
+ * or expired); dead characters are skipped instead of being removed, so handing out
+ * a turn is O(1) amortized and allocates nothing.
+ */
+public class TurnScheduler {
+    private static final int EFFECT_COUNT = StatusEffectType.values().length;
+
+    private Character[] combatants = new Character[0];
+    private int[] speeds = new int[0];      // Cached modified speed per slot
+    private int[] order = new int[0];       // Slot indices, sorted by speed (desc)
+    private boolean[] eligible = new boolean[0]; // Alive at round start
+    private int size;
+    private int cursor;                     // Position in order for current round
+    private boolean dirty;
+
+    // Scratch arrays for forecast (reused between calls)
+    private int[] forecastOrder = new int[0];
+    private int[] forecastSpeeds = new int[0];
+    private int[] forecastEffectTurns = new int[0]; // [slot * EFFECT_COUNT + effect], speed effects only
+
+    /**
+     * Load combatants for a new battle (player team first, then enemy team).
+     * Arrays are reused when large enough.
+     */
+    public void reset(List<Character> playerTeam, List<Character> enemyTeam) {
+        int total = playerTeam.size() + enemyTeam.size();
+        if (combatants.length < total) {
+            combatants = new Character[total];
+            speeds = new int[total];
+            order = new int[total];
+            eligible = new boolean[total];
+        }
+
+        size = 0;
+        for (Character c : playerTeam) {
+            combatants[size++] = c;
+        }
+        for (Character e : enemyTeam) {
+            combatants[size++] = e;
+        }
+        for (int i = size; i < combatants.length; i++) {
+            combatants[i] = null; // Do not keep characters of a previous battle alive
+        }
+
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+            speeds[i] = combatants[i].getModifiedSpeed();
+        }
+        dirty = true;
+        cursor = size;
+    }
+
+    /**
+     * Force a re-sort at the next round start
+     */
+    public void invalidate() {
+        dirty = true;
+    }
+
+    /**
+     * Start a new round: refresh cached speeds, re-sort only if one changed,
+     * and mark who is alive at the start of the round.
+     */
+    public void startRound() {
+        for (int i = 0; i < size; i++) {
+            int speed = combatants[i].getModifiedSpeed();
+            if (speed != speeds[i]) {
+                speeds[i] = speed;
+                dirty = true;
+            }
+            eligible[i] = combatants[i].isAlive();
+        }
+
+        if (dirty) {
+            sortBySpeed();
+            dirty = false;
+        }
+        cursor = 0;
+    }
+
+    /**
+     * Check whether every character that can still act this round has had its turn
+     */
+    public boolean isRoundOver() {
+        skipInactive();
+        return cursor >= size;
+    }
+
+    /**
+     * Next alive character of the current round, or null when the round is over
+     */
+    public Character next() {
+        skipInactive();
+        if (cursor >= size) {
+            return null;
+        }
+        return combatants[order[cursor++]];
+    }
+
+    private void skipInactive() {
+        while (cursor < size) {
+            int slot = order[cursor];
+            if (eligible[slot] && combatants[slot].isAlive()) {
+                return;
+            }
+            cursor++;
+        }
+    }
+
+    /**
+     * Fill out with the actors of the next out.length turns, starting with the rest of
+     * the current round and continuing into later rounds, without changing the schedule.
+     *
+     * Works on copies of the cached order and assumes nobody dies and no new effects are
+     * applied: stunned characters are skipped (stun only counts down on the character's
+     * own turn), speed effects (e.g. SPEED_BUFF) count down once per turn taken and the
+     * order is re-sorted the same way startRound does when one expires.
+     *
+     * @param pendingActor Character whose current turn has not ended yet (its effects
+     *                     still count down once), or null
+     * @return number of turns filled in; fewer than requested if nobody can act
+     */
+    int forecast(Character pendingActor, Character[] out) {
+        if (forecastOrder.length < size) {
+            forecastOrder = new int[size];
+            forecastSpeeds = new int[size];
+            forecastEffectTurns = new int[size * EFFECT_COUNT];
+        }
+        long speedEffects = StatusEffectDefinition.speedEffectMask();
+        for (int i = 0; i < size; i++) {
+            Character c = combatants[i];
+            for (int effect = 0; effect < EFFECT_COUNT; effect++) {
+                forecastEffectTurns[i * EFFECT_COUNT + effect] = (speedEffects & (1L << effect)) != 0
+                        ? c.getStatusEffectDuration(StatusEffectType.fromOrdinal(effect)) : 0;
+            }
+            if (c == pendingActor) {
+                countDownForecast(i);
+            }
+        }
+
+        int count = 0;
+        // Rest of the current round
+        for (int k = cursor; k < size && count < out.length; k++) {
+            int slot = order[k];
+            if (eligible[slot] && canAct(slot)) {
+                out[count++] = combatants[slot];
+                countDownForecast(slot);
+            }
+        }
+
+        // Following rounds
+        System.arraycopy(order, 0, forecastOrder, 0, size);
+        while (count < out.length) {
+            for (int i = 0; i < size; i++) {
+                long effects = 0;
+                for (int effect = 0; effect < EFFECT_COUNT; effect++) {
+                    if (forecastEffectTurns[i * EFFECT_COUNT + effect] > 0) {
+                        effects |= 1L << effect;
+                    }
+                }
+                forecastSpeeds[i] = StatusEffectDefinition.modifiedSpeed(combatants[i].getSpeed(), effects);
+            }
+            sortBySpeed(forecastOrder, forecastSpeeds, size);
+
+            int roundStart = count;
+            for (int k = 0; k < size && count < out.length; k++) {
+                int slot = forecastOrder[k];
+                if (canAct(slot)) {
+                    out[count++] = combatants[slot];
+                    countDownForecast(slot);
+                }
+            }
+            if (count == roundStart) {
+                break; // Nobody can act any more
+            }
+        }
+        return count;
+    }
+
+    private void countDownForecast(int slot) {
+        for (int effect = slot * EFFECT_COUNT; effect < (slot + 1) * EFFECT_COUNT; effect++) {
+            forecastEffectTurns[effect]--;
+        }
+    }
+
+    private boolean canAct(int slot) {
+        return combatants[slot].isAlive() && !combatants[slot].hasStatusEffect(StatusEffectType.STUN);
+    }
+
+    private void sortBySpeed() {
+        sortBySpeed(order, speeds, size);
+    }
+
+    /**
+     * Stable insertion sort, highest speed first. The order is nearly sorted
+     * between rounds, so this is close to linear.
+     */
+    private static void sortBySpeed(int[] order, int[] speeds, int size) {
+        for (int i = 1; i < size; i++) {
+            int slot = order[i];
+            int speed = speeds[slot];
+            int j = i - 1;
+            while (j >= 0 && speeds[order[j]] < speed) {
+                order[j + 1] = order[j];
+                j--;
+            }
+            order[j + 1] = slot;
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // ==================== SNAPSHOT STATE ====================
+
+    /**
+     * Number of ints needed by {@link #writeState} for the current battle
+     */
+    int stateSize() {
+        return size * 3 + 2;
+    }
+
+    /**
+     * Write order, cached speeds, round eligibility, cursor and dirty flag
+     * @return offset after the written state
+     */
+    int writeState(int[] state, int offset) {
+        System.arraycopy(order, 0, state, offset, size);
+        offset += size;
+        System.arraycopy(speeds, 0, state, offset, size);
+        offset += size;
+        for (int i = 0; i < size; i++) {
+            state[offset++] = eligible[i] ? 1 : 0;
+        }
+        state[offset++] = cursor;
+        state[offset++] = dirty ? 1 : 0;
+        return offset;
+    }
+
+    /**
+     * Restore state written by {@link #writeState} (same combatants)
+     * @return offset after the read state
+     */
+    int readState(int[] state, int offset) {
+        System.arraycopy(state, offset, order, 0, size);
+        offset += size;
+        System.arraycopy(state, offset, speeds, 0, size);
+        offset += size;
+        for (int i = 0; i < size; i++) {
+            eligible[i] = state[offset++] == 1;
+        }
+        cursor = state[offset++];
+        dirty = state[offset++] == 1;
+        return offset;
+    }
+}
@@ -1,41 +1,180 @@
 package com.elemental.service;
 
 import com.elemental.model.Battle;
+import com.elemental.model.BattleAction;
 import com.elemental.model.BattleStatus;
 import com.elemental.model.Character;
+import com.elemental.simulation.BattleSimulator;
+import com.elemental.strategy.AIStrategy;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 
 /**
  * Service for managing battle instances
+ *
+ * Hosts many concurrent battles as sessions keyed by battle ID. Lookups are
+ * lock-free (ConcurrentHashMap) and every session runs its work on its own
+ * serial executor backed by a shared pool, so thousands of battles can live
+ * in one JVM without a thread per battle.
+ *
+ * The single-battle methods (startBattle, getCurrentBattle, ...) keep working
+ * for the UI and operate on the "current" session.
  */
 public class BattleService {
-    private Battle currentBattle;
+    private final Map<String, BattleSession> sessions;
+    private final Executor executor;
+    private final AtomicLong sessionCounter;
+    private volatile String currentSessionId;
 
     public BattleService() {
-        this.currentBattle = null;
+        this(ForkJoinPool.commonPool());
     }
 
+    /**
+     * @param executor Shared pool that runs the session tasks
+     */
+    public BattleService(Executor executor) {
+        this.sessions = new ConcurrentHashMap<>();
+        this.executor = executor;
+        this.sessionCounter = new AtomicLong();
+        this.currentSessionId = null;
+    }
+
+    // ==================== SESSION METHODS ====================
+
+    /**
+     * Create and initialize a new battle session
+     */
+    public BattleSession createSession(List<Character> playerTeam, List<Character> enemyTeam) {
+        return createSession(new Battle(), playerTeam, enemyTeam);
+    }
+
+    /**
+     * Create a session around a pre-configured battle (e.g. seeded or headless)
+     */
+    public BattleSession createSession(Battle battle, List<Character> playerTeam, List<Character> enemyTeam) {
+        battle.initializeBattle(playerTeam, enemyTeam);
+        String id = "battle-" + sessionCounter.incrementAndGet();
+        BattleSession session = new BattleSession(id, battle, executor);
+        sessions.put(id, session);
+        return session;
+    }
+
+    /**
+     * Get session by battle ID
+     * @return the session, or null if it does not exist (ended or evicted)
+     */
+    public BattleSession getSession(String sessionId) {
+        BattleSession session = sessions.get(sessionId);
+        if (session != null) {
+            session.touch();
+        }
+        return session;
+    }
+
+    /**
+     * Execute an action on the session's executor
+     * @return future completed with the battle status after the action
+     */
+    public CompletableFuture<BattleStatus> submitAction(String sessionId, BattleAction action) {
+        return submit(sessionId, battle -> {
+            battle.executeAction(action);
+            return battle.getBattleStatus();
+        });
+    }
+
+    /**
+     * Run any task against a session's battle on the session's executor
+     */
+    public <T> CompletableFuture<T> submit(String sessionId, Function<Battle, T> task) {
+        BattleSession session = sessions.get(sessionId);
+        if (session == null) {
+            return CompletableFuture.failedFuture(
+                    new IllegalArgumentException("Unknown battle session: " + sessionId));
+        }
+        return session.submit(task);
+    }
+
+    /**
+     * Remove a session
+     * @return true if the session existed
+     */
+    public boolean endSession(String sessionId) {
+        if (sessionId.equals(currentSessionId)) {
+            currentSessionId = null;
+        }
+        return sessions.remove(sessionId) != null;
+    }
+
+    /**
+     * Remove every session that has not been used for the given time
+     * @return number of evicted sessions
+     */
+    public int evictIdleSessions(long maxIdle, TimeUnit unit) {
+        long maxIdleNanos = unit.toNanos(maxIdle);
+        int evicted = 0;
+        for (BattleSession session : sessions.values()) {
+            if (session.getIdleNanos() > maxIdleNanos && session.getPendingTaskCount() == 0
+                    && sessions.remove(session.getId(), session)) {
+                if (session.getId().equals(currentSessionId)) {
+                    currentSessionId = null;
+                }
+                evicted++;
+            }
+        }
+        return evicted;
+    }
+
+    public int getSessionCount() {
+        return sessions.size();
+    }
+
+    public Collection<BattleSession> getSessions() {
+        return Collections.unmodifiableCollection(sessions.values());
+    }
+
+    // ==================== CURRENT BATTLE (single player UI) ====================
+
     /**
      * Start a new battle
      */
     public Battle startBattle(List<Character> playerTeam, List<Character> enemyTeam) {
-        currentBattle = new Battle();
-        currentBattle.initializeBattle(playerTeam, enemyTeam);
-        return currentBattle;
+        String previous = currentSessionId;
+        if (previous != null) {
+            sessions.remove(previous);
+        }
+        BattleSession session = createSession(playerTeam, enemyTeam);
+        currentSessionId = session.getId();
+        return session.getBattle();
     }
 
     /**
      * Get current battle
      */
     public Battle getCurrentBattle() {
-        return currentBattle;
+        String id = currentSessionId;
+        if (id == null) {
+            return null;
+        }
+        BattleSession session = getSession(id);
+        return session != null ? session.getBattle() : null;
     }
 
     /**
      * Check if battle is active
      */
     public boolean isBattleActive() {
+        Battle currentBattle = getCurrentBattle();
         return currentBattle != null && currentBattle.getBattleStatus() == BattleStatus.ONGOING;
     }
 
@@ -43,13 +182,40 @@ public class BattleService {
      * End current battle
      */
     public void endBattle() {
-        currentBattle = null;
+        String id = currentSessionId;
+        if (id != null) {
+            endSession(id);
+        }
+    }
+
+    /**
+     * Auto-battle: both sides are driven by AI and the rest of the current battle
+     * resolves at engine speed. The battle log is switched off while resolving
+     * (no per-action formatting) and switched back on afterwards.
+     * Stops after BattleSimulator.DEFAULT_MAX_ROUNDS turns if nobody has won.
+     * @return number of actions executed
+     */
+    public int autoBattle(AIStrategy playerAI, AIStrategy enemyAI) {
+        Battle currentBattle = getCurrentBattle();
+        if (currentBattle == null || currentBattle.getBattleStatus() != BattleStatus.ONGOING) {
+            return 0;
+        }
+
+        boolean logEnabled = currentBattle.getBattleLog().isEnabled();
+        currentBattle.getBattleLog().setEnabled(false);
+        try {
+            return BattleSimulator.resolve(currentBattle, playerAI, enemyAI,
+                    currentBattle.getTurnNumber() + BattleSimulator.DEFAULT_MAX_ROUNDS);
+        } finally {
+            currentBattle.getBattleLog().setEnabled(logEnabled);
+        }
     }
 
     /**
      * Get battle status
      */
     public BattleStatus getBattleStatus() {
+        Battle currentBattle = getCurrentBattle();
         if (currentBattle == null) {
             return null;
         }
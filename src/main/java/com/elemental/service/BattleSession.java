@@ -0,0 +1,114 @@
+package com.elemental.service;
+
+import com.elemental.model.Battle;
+import com.elemental.model.BattleStatus;
+import com.elemental.util.SerialExecutor;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * One running battle hosted by {@link BattleService}.
+ * All work on the battle goes through the session's serial executor,
+ * so a Battle is never touched by two threads at the same time.
+ */
+public class BattleSession {
+    private final String id;
+    private final Battle battle;
+    private final SerialExecutor executor;
+    private final long createdAtNanos;
+    private volatile long lastAccessNanos;
+
+    // Per-session metrics
+    private final AtomicLong taskCount = new AtomicLong();
+    private final AtomicLong totalTaskNanos = new AtomicLong();
+    private final AtomicLong maxTaskNanos = new AtomicLong();
+
+    BattleSession(String id, Battle battle, Executor backingExecutor) {
+        this.id = id;
+        this.battle = battle;
+        this.executor = new SerialExecutor(backingExecutor);
+        this.createdAtNanos = System.nanoTime();
+        this.lastAccessNanos = createdAtNanos;
+    }
+
+    /**
+     * Run a task against this session's battle on the session executor
+     */
+    public <T> CompletableFuture<T> submit(Function<Battle, T> task) {
+        touch();
+        return CompletableFuture.supplyAsync(() -> {
+            long start = System.nanoTime();
+            try {
+                return task.apply(battle);
+            } finally {
+                recordTask(System.nanoTime() - start);
+            }
+        }, executor);
+    }
+
+    private void recordTask(long nanos) {
+        taskCount.incrementAndGet();
+        totalTaskNanos.addAndGet(nanos);
+        maxTaskNanos.accumulateAndGet(nanos, Math::max);
+        touch();
+    }
+
+    void touch() {
+        lastAccessNanos = System.nanoTime();
+    }
+
+    // Getters
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * The hosted battle. Mutate it only from tasks passed to {@link #submit},
+     * unless the session is used from a single thread (e.g. the UI's current battle).
+     */
+    public Battle getBattle() {
+        return battle;
+    }
+
+    public BattleStatus getBattleStatus() {
+        return battle.getBattleStatus();
+    }
+
+    public long getIdleNanos() {
+        return System.nanoTime() - lastAccessNanos;
+    }
+
+    public long getAgeNanos() {
+        return System.nanoTime() - createdAtNanos;
+    }
+
+    public long getTaskCount() {
+        return taskCount.get();
+    }
+
+    public long getTotalTaskNanos() {
+        return totalTaskNanos.get();
+    }
+
+    public long getMaxTaskNanos() {
+        return maxTaskNanos.get();
+    }
+
+    public double getAverageTaskNanos() {
+        long count = taskCount.get();
+        return count == 0 ? 0.0 : (double) totalTaskNanos.get() / count;
+    }
+
+    public int getPendingTaskCount() {
+        return executor.getPendingCount();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Session %s [%s] tasks=%d avg=%.0fns max=%dns",
+                id, battle.getBattleStatus(), getTaskCount(), getAverageTaskNanos(), getMaxTaskNanos());
+    }
+}
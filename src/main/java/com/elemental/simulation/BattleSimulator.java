@@ -0,0 +1,311 @@
+package com.elemental.simulation;
+
+import com.elemental.model.Battle;
+import com.elemental.model.BattleAction;
+import com.elemental.model.BattleKernel;
+import com.elemental.model.BattleStatus;
+import com.elemental.model.Character;
+import com.elemental.model.Item;
+import com.elemental.model.Skill;
+import com.elemental.observer.BattleObserver;
+import com.elemental.strategy.AIStrategy;
+import com.elemental.strategy.KernelAIStrategy;
+import com.elemental.util.BattleRandom;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.random.RandomGenerator;
+
+/**
+ * Headless battle simulator for balancing and regression checks.
+ * Runs many full battles (both sides driven by an AIStrategy) in parallel
+ * on a ForkJoinPool and aggregates the outcome into a {@link SimulationResult}.
+ *
+ * Simulated battles never log, never give rewards and never touch the global Inventory.
+ * Every battle gets its own {@link BattleRandom} derived from the run's base seed,
+ * so workers never contend on a shared RNG and any battle can be replayed with {@link #replay}.
+ *
+ * {@link #simulateKernel} runs the same battles on the data-oriented {@link BattleKernel}:
+ * each worker loads the teams once and rewinds the kernel per battle.
+ */
+public class BattleSimulator {
+    public static final int DEFAULT_MAX_ROUNDS = 200;
+    private static final int BATTLES_PER_TASK = 256; // Split threshold for fork/join
+
+    private final ForkJoinPool pool;
+    private final int maxRounds;
+
+    public BattleSimulator() {
+        this(ForkJoinPool.commonPool(), DEFAULT_MAX_ROUNDS);
+    }
+
+    public BattleSimulator(ForkJoinPool pool, int maxRounds) {
+        if (maxRounds < 1) {
+            throw new IllegalArgumentException("maxRounds must be at least 1!");
+        }
+        this.pool = pool;
+        this.maxRounds = maxRounds;
+    }
+
+    /**
+     * Simulate a number of battles between two teams with a random base seed.
+     * The strategy suppliers are called once per battle and side, because
+     * some strategies (HardAI) keep per-battle state.
+     */
+    public SimulationResult simulate(TeamSpec players, TeamSpec enemies,
+                                     Supplier<AIStrategy> playerAI, Supplier<AIStrategy> enemyAI,
+                                     int battles) {
+        return simulate(players, enemies, rng -> playerAI.get(), rng -> enemyAI.get(),
+                battles, ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Simulate a number of battles between two teams, reproducibly.
+     * Battle {@code i} is seeded with {@code BattleRandom.seedFor(baseSeed, i)};
+     * each strategy factory receives its own random stream split from that battle's RNG.
+     */
+    public SimulationResult simulate(TeamSpec players, TeamSpec enemies,
+                                     Function<RandomGenerator, AIStrategy> playerAI,
+                                     Function<RandomGenerator, AIStrategy> enemyAI,
+                                     int battles, long baseSeed) {
+        if (battles < 0) {
+            throw new IllegalArgumentException("Number of battles cannot be negative!");
+        }
+
+        return run(battles, baseSeed, (from, to, result) -> {
+            for (int i = from; i < to; i++) {
+                runBattle(players, enemies, playerAI, enemyAI, BattleRandom.seedFor(baseSeed, i), result);
+            }
+        });
+    }
+
+    /**
+     * Simulate a number of battles on the {@link BattleKernel}, reproducibly.
+     * Seeds and AI random streams are derived exactly like {@link #simulate}, so with
+     * equivalent strategies (e.g. EasyAI on both paths) the result is identical, only faster.
+     */
+    public SimulationResult simulateKernel(TeamSpec players, TeamSpec enemies,
+                                           Function<RandomGenerator, KernelAIStrategy> playerAI,
+                                           Function<RandomGenerator, KernelAIStrategy> enemyAI,
+                                           int battles, long baseSeed) {
+        if (battles < 0) {
+            throw new IllegalArgumentException("Number of battles cannot be negative!");
+        }
+
+        return run(battles, baseSeed, (from, to, result) -> {
+            BattleKernel kernel = new BattleKernel();
+            kernel.load(players.build(), enemies.build());
+            for (int i = from; i < to; i++) {
+                kernel.reset(BattleRandom.seedFor(baseSeed, i));
+                KernelAIStrategy playerStrategy = playerAI.apply(kernel.getRandom().split());
+                KernelAIStrategy enemyStrategy = enemyAI.apply(kernel.getRandom().split());
+                resolve(kernel, playerStrategy, enemyStrategy, maxRounds);
+
+                BattleStatus status = kernel.getBattleStatus();
+                int rounds = status != BattleStatus.ONGOING ? kernel.getTurnNumber() + 1 : maxRounds + 1;
+                result.recordBattle(status == BattleStatus.VICTORY, status == BattleStatus.DEFEAT,
+                        rounds, kernel.getPlayerDamage(), kernel.getEnemyDamage());
+            }
+        });
+    }
+
+    private SimulationResult run(int battles, long baseSeed, BattleRange range) {
+        long start = System.nanoTime();
+        SimulationResult result = pool.invoke(new SimulationTask(range, 0, battles));
+        result.setElapsedNanos(System.nanoTime() - start);
+        result.setBaseSeed(baseSeed);
+        return result;
+    }
+
+    /**
+     * Re-run a single battle from its seed and return it for inspection.
+     * With the same teams and strategies the result is identical to the original run.
+     */
+    public Battle replay(TeamSpec players, TeamSpec enemies,
+                         Function<RandomGenerator, AIStrategy> playerAI,
+                         Function<RandomGenerator, AIStrategy> enemyAI,
+                         long battleSeed) {
+        return playBattle(players.build(), enemies.build(), playerAI, enemyAI, battleSeed, null);
+    }
+
+    /**
+     * Run a single headless battle and record it into the result
+     */
+    private void runBattle(TeamSpec players, TeamSpec enemies,
+                           Function<RandomGenerator, AIStrategy> playerAI,
+                           Function<RandomGenerator, AIStrategy> enemyAI,
+                           long battleSeed, SimulationResult result) {
+        List<Character> playerTeam = players.build();
+        DamageTally tally = new DamageTally(playerTeam);
+        Battle battle = playBattle(playerTeam, enemies.build(), playerAI, enemyAI, battleSeed, tally);
+
+        BattleStatus status = battle.getBattleStatus();
+        boolean decided = status != BattleStatus.ONGOING;
+        int rounds = decided ? battle.getTurnNumber() + 1 : maxRounds + 1;
+        result.recordBattle(status == BattleStatus.VICTORY, status == BattleStatus.DEFEAT,
+                rounds, tally.playerDamage, tally.enemyDamage);
+    }
+
+    /**
+     * Build, seed and resolve one headless battle.
+     * The AI random streams are split off the battle RNG before the battle starts.
+     */
+    private Battle playBattle(List<Character> playerTeam, List<Character> enemyTeam,
+                              Function<RandomGenerator, AIStrategy> playerAI,
+                              Function<RandomGenerator, AIStrategy> enemyAI,
+                              long battleSeed, BattleObserver observer) {
+        Battle battle = new Battle(battleSeed);
+        battle.getBattleLog().setEnabled(false);
+        battle.setRewardsEnabled(false);
+
+        AIStrategy playerStrategy = playerAI.apply(battle.getRandom().split());
+        AIStrategy enemyStrategy = enemyAI.apply(battle.getRandom().split());
+
+        if (observer != null) {
+            battle.addObserver(observer);
+        }
+        battle.initializeBattle(playerTeam, enemyTeam);
+
+        resolve(battle, playerStrategy, enemyStrategy, maxRounds);
+        return battle;
+    }
+
+    /**
+     * Drive an already initialized battle to the end with AI on both sides.
+     * Stops after maxRounds rounds if nobody wins.
+     * @return number of actions executed
+     */
+    public static int resolve(Battle battle, AIStrategy playerAI, AIStrategy enemyAI, int maxRounds) {
+        int actions = 0;
+
+        while (battle.getBattleStatus() == BattleStatus.ONGOING) {
+            Character actor = battle.getNextTurn();
+            if (battle.getTurnNumber() >= maxRounds) {
+                break;
+            }
+            if (actor == null) {
+                continue; // Round ended with only dead/stunned characters left
+            }
+
+            boolean playerSide = battle.isPlayerTurn(actor);
+            List<Character> allies = playerSide ? battle.getPlayerTeam() : battle.getEnemyTeam();
+            List<Character> foes = playerSide ? battle.getEnemyTeam() : battle.getPlayerTeam();
+
+            AIStrategy ai = playerSide ? playerAI : enemyAI;
+            BattleAction action = ai.decideAction(actor, allies, foes);
+            battle.executeAction(action);
+            actions++;
+        }
+
+        return actions;
+    }
+
+    /**
+     * Kernel version of {@link #resolve(Battle, AIStrategy, AIStrategy, int)}
+     * @return number of actions executed
+     */
+    public static int resolve(BattleKernel kernel, KernelAIStrategy playerAI, KernelAIStrategy enemyAI,
+                              int maxRounds) {
+        int actions = 0;
+
+        while (kernel.getBattleStatus() == BattleStatus.ONGOING) {
+            int actor = kernel.nextTurn();
+            if (kernel.getTurnNumber() >= maxRounds) {
+                break;
+            }
+            if (actor < 0) {
+                continue;
+            }
+
+            KernelAIStrategy ai = kernel.isPlayerSide(actor) ? playerAI : enemyAI;
+            ai.takeTurn(kernel, actor);
+            actions++;
+        }
+
+        return actions;
+    }
+
+    public int getMaxRounds() {
+        return maxRounds;
+    }
+
+    /**
+     * Runs battles [from, to) sequentially into a result
+     */
+    private interface BattleRange {
+        void run(int from, int to, SimulationResult result);
+    }
+
+    /**
+     * Fork/join task: splits the battle range until it is small enough,
+     * then runs the battles sequentially into a private result.
+     */
+    private class SimulationTask extends RecursiveTask<SimulationResult> {
+        private static final long serialVersionUID = 1L;
+
+        private final BattleRange range;
+        private final int from;
+        private final int to;
+
+        SimulationTask(BattleRange range, int from, int to) {
+            this.range = range;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected SimulationResult compute() {
+            if (to - from <= BATTLES_PER_TASK) {
+                SimulationResult result = new SimulationResult(maxRounds);
+                range.run(from, to, result);
+                return result;
+            }
+
+            int mid = (from + to) >>> 1;
+            SimulationTask left = new SimulationTask(range, from, mid);
+            SimulationTask right = new SimulationTask(range, mid, to);
+            left.fork();
+            SimulationResult rightResult = right.compute();
+            return left.join().merge(rightResult);
+        }
+    }
+
+    /**
+     * Observer that sums damage dealt by each side
+     */
+    private static class DamageTally implements BattleObserver {
+        private final Set<Character> playerTeam = Collections.newSetFromMap(new IdentityHashMap<>());
+        private long playerDamage;
+        private long enemyDamage;
+
+        DamageTally(List<Character> playerTeam) {
+            this.playerTeam.addAll(playerTeam);
+        }
+
+        @Override
+        public void onAttack(Character attacker, Character target, int damage, boolean isCritical) {
+            if (playerTeam.contains(attacker)) {
+                playerDamage += damage;
+            } else {
+                enemyDamage += damage;
+            }
+        }
+
+        @Override public void onBattleStart() { }
+        @Override public void onTurnChange(Character character, int turnNumber) { }
+        @Override public void onSkillUsed(Character user, Skill skill, Character target) { }
+        @Override public void onItemUsed(Character user, Item item, Character target) { }
+        @Override public void onDefend(Character character) { }
+        @Override public void onHPChange(Character character, int oldHP, int newHP) { }
+        @Override public void onCharacterDefeated(Character character) { }
+        @Override public void onBattleEnd(BattleStatus status) { }
+        @Override public void onLogMessage(String message) { }
+    }
+}
@@ -0,0 +1,111 @@
+package com.elemental.simulation;
+
+/**
+ * Aggregate results of a batch of simulated battles.
+ * Each worker fills its own instance, partial results are combined with {@link #merge}.
+ */
+public class SimulationResult {
+    private final int maxRounds;
+    private long battles;
+    private long playerWins;
+    private long enemyWins;
+    private long timeouts;
+    private long totalRounds;
+    private long playerDamage; // Damage dealt BY the player team
+    private long enemyDamage;  // Damage dealt BY the enemy team
+    private final long[] roundHistogram; // index = rounds played, last bucket = timeouts
+    private long elapsedNanos;
+    private long baseSeed;
+
+    public SimulationResult(int maxRounds) {
+        this.maxRounds = maxRounds;
+        this.roundHistogram = new long[maxRounds + 2];
+    }
+
+    /**
+     * Record the outcome of a single battle
+     */
+    void recordBattle(boolean playerWon, boolean enemyWon, int rounds, long playerDamage, long enemyDamage) {
+        battles++;
+        if (playerWon) {
+            playerWins++;
+        } else if (enemyWon) {
+            enemyWins++;
+        } else {
+            timeouts++;
+        }
+        totalRounds += rounds;
+        roundHistogram[Math.min(rounds, roundHistogram.length - 1)]++;
+        this.playerDamage += playerDamage;
+        this.enemyDamage += enemyDamage;
+    }
+
+    /**
+     * Combine another partial result into this one
+     */
+    SimulationResult merge(SimulationResult other) {
+        battles += other.battles;
+        playerWins += other.playerWins;
+        enemyWins += other.enemyWins;
+        timeouts += other.timeouts;
+        totalRounds += other.totalRounds;
+        playerDamage += other.playerDamage;
+        enemyDamage += other.enemyDamage;
+        for (int i = 0; i < roundHistogram.length; i++) {
+            roundHistogram[i] += other.roundHistogram[i];
+        }
+        return this;
+    }
+
+    void setElapsedNanos(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    void setBaseSeed(long baseSeed) {
+        this.baseSeed = baseSeed;
+    }
+
+    // Getters
+    public long getBattles() { return battles; }
+    public long getPlayerWins() { return playerWins; }
+    public long getEnemyWins() { return enemyWins; }
+    public long getTimeouts() { return timeouts; }
+    public long getPlayerDamage() { return playerDamage; }
+    public long getEnemyDamage() { return enemyDamage; }
+    public int getMaxRounds() { return maxRounds; }
+    public long getElapsedNanos() { return elapsedNanos; }
+
+    /**
+     * Base seed of the run, battle i can be replayed with BattleRandom.seedFor(baseSeed, i)
+     */
+    public long getBaseSeed() { return baseSeed; }
+
+    /**
+     * Histogram of rounds per battle, index = round count.
+     * Battles that hit the round limit are counted in the last bucket.
+     */
+    public long[] getRoundHistogram() {
+        return roundHistogram.clone();
+    }
+
+    public double getPlayerWinRate() {
+        return battles == 0 ? 0.0 : (double) playerWins / battles;
+    }
+
+    public double getAverageRounds() {
+        return battles == 0 ? 0.0 : (double) totalRounds / battles;
+    }
+
+    public double getBattlesPerSecond() {
+        return elapsedNanos == 0 ? 0.0 : battles * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "Battles: %d | Player win rate: %.2f%% | Enemy wins: %d | Timeouts: %d%n" +
+                        "Avg rounds: %.2f | Damage (player/enemy): %d/%d | %.0f battles/s",
+                battles, getPlayerWinRate() * 100, enemyWins, timeouts,
+                getAverageRounds(), playerDamage, enemyDamage, getBattlesPerSecond());
+    }
+}
@@ -0,0 +1,97 @@
+package com.elemental.simulation;
+
+import com.elemental.factory.CharacterFactory;
+import com.elemental.model.Character;
+import com.elemental.model.CharacterClass;
+import com.elemental.model.Element;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable description of a team for headless simulations.
+ * Every simulated battle builds fresh Character instances from this spec,
+ * so battles never share mutable state.
+ */
+public class TeamSpec {
+    private final List<Member> members;
+
+    private TeamSpec(List<Member> members) {
+        this.members = Collections.unmodifiableList(new ArrayList<>(members));
+    }
+
+    /**
+     * Create an empty spec, add members with {@link #with}
+     */
+    public static TeamSpec empty() {
+        return new TeamSpec(Collections.emptyList());
+    }
+
+    /**
+     * Create a single-member team
+     */
+    public static TeamSpec of(String name, CharacterClass characterClass, Element element, int level) {
+        return empty().with(name, characterClass, element, level);
+    }
+
+    /**
+     * Return a new spec with one more member
+     */
+    public TeamSpec with(String name, CharacterClass characterClass, Element element, int level) {
+        if (level < 1) {
+            throw new IllegalArgumentException("Level must be at least 1!");
+        }
+        List<Member> copy = new ArrayList<>(members);
+        copy.add(new Member(name, characterClass, element, level));
+        return new TeamSpec(copy);
+    }
+
+    /**
+     * Build fresh characters for one battle
+     */
+    public List<Character> build() {
+        List<Character> team = new ArrayList<>(members.size());
+        for (Member member : members) {
+            team.add(member.build());
+        }
+        return team;
+    }
+
+    public List<Member> getMembers() {
+        return members;
+    }
+
+    public int size() {
+        return members.size();
+    }
+
+    /**
+     * One team member: class, element and level
+     */
+    public static class Member {
+        private final String name;
+        private final CharacterClass characterClass;
+        private final Element element;
+        private final int level;
+
+        public Member(String name, CharacterClass characterClass, Element element, int level) {
+            this.name = name;
+            this.characterClass = characterClass;
+            this.element = element;
+            this.level = level;
+        }
+
+        Character build() {
+            Character character = CharacterFactory.createCharacter(characterClass, name, element);
+            // Same leveling path as EnemyFactory
+            character.gainLevels(level - 1);
+            return character;
+        }
+
+        public String getName() { return name; }
+        public CharacterClass getCharacterClass() { return characterClass; }
+        public Element getElement() { return element; }
+        public int getLevel() { return level; }
+    }
+}
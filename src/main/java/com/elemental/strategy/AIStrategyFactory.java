@@ -2,6 +2,8 @@ package com.elemental.strategy;
 
 import com.elemental.model.AIDifficulty;
 
+import java.util.random.RandomGenerator;
+
 /**
  * Factory class for creating AI strategies based on difficulty
  * Implements Strategy Pattern
@@ -25,5 +27,24 @@ public class AIStrategyFactory {
                 return new EasyAI(); // Default fallback
         }
     }
+
+    /**
+     * Create AI strategy that draws its random decisions from the given source.
+     * Used by seeded simulations so a whole battle is reproducible.
+     * @param difficulty The AI difficulty level
+     * @param rng Random source for strategies that need one
+     * @return AIStrategy implementation
+     */
+    public static AIStrategy create(AIDifficulty difficulty, RandomGenerator rng) {
+        switch (difficulty) {
+            case MEDIUM:
+                return new MediumAI();
+            case HARD:
+                return new HardAI();
+            case EASY:
+            default:
+                return new EasyAI(rng);
+        }
+    }
 }
 
@@ -2,12 +2,14 @@ package com.elemental.strategy;
 
 import com.elemental.model.ActionType;
 import com.elemental.model.BattleAction;
+import com.elemental.model.BattleKernel;
 import com.elemental.model.Skill;
 import com.elemental.model.SkillType;
+import com.elemental.util.BattleRandom;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
 /**
  * FR-AI-002: Easy AI Behavior
@@ -18,12 +20,19 @@ import java.util.Random;
  * - No element advantage consideration
  * - No item usage
  */
-public class EasyAI implements AIStrategy {
+public class EasyAI implements AIStrategy, KernelAIStrategy {
 
-    private final Random random;
+    private final RandomGenerator random;
 
     public EasyAI() {
-        this.random = new Random();
+        this(new BattleRandom());
+    }
+
+    /**
+     * Create with a specific random source (seeded simulations / replays)
+     */
+    public EasyAI(RandomGenerator random) {
+        this.random = random;
     }
 
     /**
@@ -33,16 +42,8 @@ public class EasyAI implements AIStrategy {
     public BattleAction decideAction(com.elemental.model.Character actor,
                                     List<com.elemental.model.Character> allies,
                                     List<com.elemental.model.Character> enemies) {
-        // Filter alive enemies
-        List<com.elemental.model.Character> aliveEnemies = new ArrayList<>();
-        for (com.elemental.model.Character enemy : enemies) {
-            if (enemy.isAlive()) {
-                aliveEnemies.add(enemy);
-            }
-        }
-
         // If no alive enemies, return basic attack
-        if (aliveEnemies.isEmpty()) {
+        if (Targets.countAlive(enemies) == 0) {
             BattleAction action = new BattleAction(actor, ActionType.ATTACK);
             return action;
         }
@@ -53,7 +54,7 @@ public class EasyAI implements AIStrategy {
         if (choice < 60) {
             // 60% - Basic attack
             BattleAction action = new BattleAction(actor, ActionType.ATTACK);
-            action.setTarget(selectTarget(actor, aliveEnemies));
+            action.setTarget(selectTarget(actor, enemies));
             return action;
 
         } else if (choice < 90) {
@@ -73,14 +74,14 @@ public class EasyAI implements AIStrategy {
                     action.setTarget(actor);
                 } else {
                     // Target random enemy
-                    action.setTarget(selectTarget(actor, aliveEnemies));
+                    action.setTarget(selectTarget(actor, enemies));
                 }
 
                 return action;
             } else {
                 // Not enough MP, fall back to basic attack
                 BattleAction action = new BattleAction(actor, ActionType.ATTACK);
-                action.setTarget(selectTarget(actor, aliveEnemies));
+                action.setTarget(selectTarget(actor, enemies));
                 return action;
             }
 
@@ -91,6 +92,60 @@ public class EasyAI implements AIStrategy {
         }
     }
 
+    /**
+     * Same decision rules (and random draws) as {@link #decideAction}, on kernel slots
+     */
+    @Override
+    public void takeTurn(BattleKernel kernel, int actor) {
+        boolean foeSide = !kernel.isPlayerSide(actor);
+        int aliveFoes = kernel.countAlive(foeSide);
+
+        if (aliveFoes == 0) {
+            kernel.execute(actor, ActionType.ATTACK, -1, -1);
+            return;
+        }
+
+        int choice = random.nextInt(100);
+
+        if (choice < 60) {
+            // 60% - Basic attack
+            kernel.execute(actor, ActionType.ATTACK, kernel.aliveSlot(foeSide, random.nextInt(aliveFoes)), -1);
+
+        } else if (choice < 90) {
+            // 30% - Try to use skill
+            int usable = 0;
+            for (int i = 0; i < kernel.getSkillCount(actor); i++) {
+                if (kernel.canUseSkill(actor, i)) {
+                    usable++;
+                }
+            }
+
+            if (usable > 0) {
+                int pick = random.nextInt(usable);
+                int skill = 0;
+                for (int i = 0; i < kernel.getSkillCount(actor); i++) {
+                    if (kernel.canUseSkill(actor, i) && pick-- == 0) {
+                        skill = i;
+                        break;
+                    }
+                }
+
+                SkillType skillType = kernel.getSkillType(actor, skill);
+                int target = skillType == SkillType.HEAL || skillType == SkillType.BUFF
+                        ? actor
+                        : kernel.aliveSlot(foeSide, random.nextInt(aliveFoes));
+                kernel.execute(actor, ActionType.SKILL, target, skill);
+            } else {
+                // Not enough MP, fall back to basic attack
+                kernel.execute(actor, ActionType.ATTACK, kernel.aliveSlot(foeSide, random.nextInt(aliveFoes)), -1);
+            }
+
+        } else {
+            // 10% - Defend
+            kernel.execute(actor, ActionType.DEFEND, -1, -1);
+        }
+    }
+
     /**
      * Select random target from available targets
      */
@@ -101,20 +156,13 @@ public class EasyAI implements AIStrategy {
             return null;
         }
 
-        // Filter alive targets
-        List<com.elemental.model.Character> aliveTargets = new ArrayList<>();
-        for (com.elemental.model.Character target : targets) {
-            if (target.isAlive()) {
-                aliveTargets.add(target);
-            }
-        }
-
-        if (aliveTargets.isEmpty()) {
+        int aliveCount = Targets.countAlive(targets);
+        if (aliveCount == 0) {
             return null;
         }
 
-        // Return random target
-        return aliveTargets.get(random.nextInt(aliveTargets.size()));
+        // Return random alive target
+        return Targets.aliveAt(targets, random.nextInt(aliveCount));
     }
 
     /**
@@ -2,13 +2,16 @@ package com.elemental.strategy;
 
 import com.elemental.model.ActionType;
 import com.elemental.model.BattleAction;
+import com.elemental.model.DamageCalculator;
+import com.elemental.model.Effectiveness;
 import com.elemental.model.Element;
 import com.elemental.model.Skill;
 import com.elemental.model.SkillType;
 
-import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.ToDoubleFunction;
 
 /**
  * FR-AI-004: Hard AI Behavior
@@ -22,6 +25,20 @@ import java.util.List;
  */
 public class HardAI implements AIStrategy {
 
+    // Target scores (constant instances, so battle team indexes are reused)
+    private static final ToDoubleFunction<com.elemental.model.Character> CURRENT_HP =
+            com.elemental.model.Character::getCurrentHP;
+    private static final ToDoubleFunction<com.elemental.model.Character> ATTACK =
+            com.elemental.model.Character::getAttack;
+    private static final Map<Element, ToDoubleFunction<com.elemental.model.Character>> THREAT =
+            new EnumMap<>(Element.class);
+
+    static {
+        for (Element element : Element.values()) {
+            THREAT.put(element, target -> calculateThreat(element, target));
+        }
+    }
+
     private int turnCount = 0;
     private int playerDefendCount = 0;
 
@@ -31,16 +48,8 @@ public class HardAI implements AIStrategy {
                                     List<com.elemental.model.Character> enemies) {
         turnCount++;
 
-        // Filter alive enemies
-        List<com.elemental.model.Character> aliveEnemies = new ArrayList<>();
-        for (com.elemental.model.Character enemy : enemies) {
-            if (enemy.isAlive()) {
-                aliveEnemies.add(enemy);
-            }
-        }
-
         // Safety check
-        if (aliveEnemies.isEmpty()) {
+        if (Targets.countAlive(enemies) == 0) {
             BattleAction action = new BattleAction(actor, ActionType.ATTACK);
             return action;
         }
@@ -51,7 +60,7 @@ public class HardAI implements AIStrategy {
 
         // === DEFENSIVE MODE (HP < 40%) ===
         if (hpPercentage < 40) {
-            return executeDefensiveStrategy(actor, aliveEnemies);
+            return executeDefensiveStrategy(actor, enemies);
         }
 
         // === EARLY GAME BUFF STRATEGY (Turn 1-2, High HP) ===
@@ -72,39 +81,43 @@ public class HardAI implements AIStrategy {
             if (debuffSkill != null && actor.canUseSkill(debuffSkill)) {
                 BattleAction action = new BattleAction(actor, ActionType.SKILL);
                 action.setSkill(debuffSkill);
-                action.setTarget(selectHighestThreatTarget(actor, aliveEnemies));
+                action.setTarget(selectHighestThreatTarget(actor, enemies));
                 return action;
             }
         }
 
         // === FINISHING BLOW STRATEGY ===
-        // If enemy has low HP and we have MP, use highest damage skill
-        com.elemental.model.Character weakestEnemy = findLowestHP(aliveEnemies);
-        if (weakestEnemy != null && mpPercentage > 20) {
-            double enemyHpPercentage = (double) weakestEnemy.getCurrentHP() / weakestEnemy.getMaxHP() * 100;
-
-            if (enemyHpPercentage < 30) {
-                Skill finishingSkill = findHighestDamageSkill(actor);
-                if (finishingSkill != null && actor.canUseSkill(finishingSkill)) {
-                    BattleAction action = new BattleAction(actor, ActionType.SKILL);
-                    action.setSkill(finishingSkill);
-                    action.setTarget(weakestEnemy);
-                    return action;
-                }
+        // Exact kill check: basic attack if it is sure to KO the weakest enemy,
+        // otherwise the cheapest damage skill that is (saves MP)
+        com.elemental.model.Character weakestEnemy = Targets.lowest(enemies, CURRENT_HP);
+        if (weakestEnemy != null) {
+            int enemyHp = weakestEnemy.getCurrentHP();
+            if (DamageCalculator.preview(actor, weakestEnemy, null).isGuaranteedKill(enemyHp)) {
+                BattleAction action = new BattleAction(actor, ActionType.ATTACK);
+                action.setTarget(weakestEnemy);
+                return action;
+            }
+
+            Skill finishingSkill = mpPercentage > 20 ? findFinishingSkill(actor, weakestEnemy) : null;
+            if (finishingSkill != null) {
+                BattleAction action = new BattleAction(actor, ActionType.SKILL);
+                action.setSkill(finishingSkill);
+                action.setTarget(weakestEnemy);
+                return action;
             }
         }
 
         // === RESOURCE MANAGEMENT ===
         // High MP: Use skills strategically
         if (mpPercentage > 60) {
-            Skill bestSkill = findBestStrategicSkill(actor, aliveEnemies);
+            Skill bestSkill = findBestStrategicSkill(actor, enemies);
             if (bestSkill != null && actor.canUseSkill(bestSkill)) {
                 BattleAction action = new BattleAction(actor, ActionType.SKILL);
                 action.setSkill(bestSkill);
 
                 if (bestSkill.getSkillType() == SkillType.DAMAGE ||
                     bestSkill.getSkillType() == SkillType.DEBUFF) {
-                    action.setTarget(selectTarget(actor, aliveEnemies));
+                    action.setTarget(selectTarget(actor, enemies));
                 } else {
                     action.setTarget(actor);
                 }
@@ -119,14 +132,14 @@ public class HardAI implements AIStrategy {
             if (cheapSkill != null && actor.canUseSkill(cheapSkill)) {
                 BattleAction action = new BattleAction(actor, ActionType.SKILL);
                 action.setSkill(cheapSkill);
-                action.setTarget(selectTarget(actor, aliveEnemies));
+                action.setTarget(selectTarget(actor, enemies));
                 return action;
             }
         }
 
         // === DEFAULT: Basic Attack ===
         BattleAction action = new BattleAction(actor, ActionType.ATTACK);
-        action.setTarget(selectTarget(actor, aliveEnemies));
+        action.setTarget(selectTarget(actor, enemies));
         return action;
     }
 
@@ -134,7 +147,7 @@ public class HardAI implements AIStrategy {
      * Execute defensive strategy when HP is low
      */
     private BattleAction executeDefensiveStrategy(com.elemental.model.Character actor,
-                                                   List<com.elemental.model.Character> aliveEnemies) {
+                                                   List<com.elemental.model.Character> enemies) {
         // Try to heal
         Skill healSkill = findSkillByType(actor, SkillType.HEAL);
         if (healSkill != null && actor.canUseSkill(healSkill)) {
@@ -158,7 +171,7 @@ public class HardAI implements AIStrategy {
         if (debuffSkill != null && actor.canUseSkill(debuffSkill)) {
             BattleAction action = new BattleAction(actor, ActionType.SKILL);
             action.setSkill(debuffSkill);
-            action.setTarget(selectHighestThreatTarget(actor, aliveEnemies));
+            action.setTarget(selectHighestThreatTarget(actor, enemies));
             return action;
         }
 
@@ -177,20 +190,12 @@ public class HardAI implements AIStrategy {
             return null;
         }
 
-        // Filter alive targets
-        List<com.elemental.model.Character> aliveTargets = new ArrayList<>();
-        for (com.elemental.model.Character target : targets) {
-            if (target.isAlive()) {
-                aliveTargets.add(target);
-            }
-        }
-
-        if (aliveTargets.isEmpty()) {
+        if (Targets.countAlive(targets) == 0) {
             return null;
         }
 
         // Calculate threat for each target
-        return selectHighestThreatTarget(actor, aliveTargets);
+        return selectHighestThreatTarget(actor, targets);
     }
 
     /**
@@ -198,20 +203,8 @@ public class HardAI implements AIStrategy {
      */
     private com.elemental.model.Character selectHighestThreatTarget(com.elemental.model.Character actor,
                                                                      List<com.elemental.model.Character> targets) {
-        com.elemental.model.Character bestTarget = null;
-        double highestThreat = -1;
-
-        for (com.elemental.model.Character target : targets) {
-            if (!target.isAlive()) continue;
-
-            // Calculate threat score
-            double threat = calculateThreat(actor, target);
-
-            if (threat > highestThreat) {
-                highestThreat = threat;
-                bestTarget = target;
-            }
-        }
+        // Alive target with the highest threat score, first one on ties
+        com.elemental.model.Character bestTarget = Targets.highest(targets, THREAT.get(actor.getElement()));
 
         return bestTarget != null ? bestTarget : targets.get(0);
     }
@@ -220,17 +213,16 @@ public class HardAI implements AIStrategy {
      * Calculate threat value for a target
      * threat = (attack * elementMultiplier) + (lowHpBonus) + (highAttackBonus)
      */
-    private double calculateThreat(com.elemental.model.Character actor,
-                                   com.elemental.model.Character target) {
+    private static double calculateThreat(Element actorElement, com.elemental.model.Character target) {
         double threat = 0;
 
         // Base threat from attack
         threat += target.getAttack();
 
         // Element advantage multiplier
-        if (hasElementAdvantage(actor.getElement(), target.getElement())) {
+        if (DamageCalculator.getEffectiveness(actorElement, target.getElement()) == Effectiveness.SUPER_EFFECTIVE) {
             threat *= 1.5; // We have advantage - higher priority to finish them
-        } else if (hasElementAdvantage(target.getElement(), actor.getElement())) {
+        } else if (DamageCalculator.getEffectiveness(target.getElement(), actorElement) == Effectiveness.SUPER_EFFECTIVE) {
             threat *= 1.3; // They have advantage - threat to us
         }
 
@@ -250,24 +242,13 @@ public class HardAI implements AIStrategy {
         return threat;
     }
 
-    /**
-     * Check element advantage
-     */
-    private boolean hasElementAdvantage(Element attacker, Element defender) {
-        return (attacker == Element.FIRE && defender == Element.EARTH) ||
-               (attacker == Element.EARTH && defender == Element.WATER) ||
-               (attacker == Element.WATER && defender == Element.FIRE);
-    }
-
     /**
      * Find best strategic skill considering enemy composition
      */
     private Skill findBestStrategicSkill(com.elemental.model.Character actor,
                                          List<com.elemental.model.Character> enemies) {
         // Check if debuff would be valuable
-        com.elemental.model.Character strongestEnemy = enemies.stream()
-            .max(Comparator.comparingInt(com.elemental.model.Character::getAttack))
-            .orElse(null);
+        com.elemental.model.Character strongestEnemy = Targets.highest(enemies, ATTACK);
 
         if (strongestEnemy != null && strongestEnemy.getAttack() > 30) {
             Skill debuffSkill = findSkillByType(actor, SkillType.DEBUFF);
@@ -311,6 +292,25 @@ public class HardAI implements AIStrategy {
         return bestSkill;
     }
 
+    /**
+     * Find cheapest damage skill that is sure to KO the target (null if none)
+     */
+    private Skill findFinishingSkill(com.elemental.model.Character actor, com.elemental.model.Character target) {
+        Skill cheapestSkill = null;
+        int minCost = Integer.MAX_VALUE;
+
+        for (Skill skill : actor.getSkills()) {
+            if (skill.getSkillType() == SkillType.DAMAGE && actor.canUseSkill(skill)
+                    && skill.getMpCost() < minCost
+                    && DamageCalculator.preview(actor, target, skill).isGuaranteedKill(target.getCurrentHP())) {
+                minCost = skill.getMpCost();
+                cheapestSkill = skill;
+            }
+        }
+
+        return cheapestSkill;
+    }
+
     /**
      * Find cheapest damage skill
      */
@@ -330,16 +330,6 @@ public class HardAI implements AIStrategy {
         return cheapestSkill;
     }
 
-    /**
-     * Find character with lowest HP
-     */
-    private com.elemental.model.Character findLowestHP(List<com.elemental.model.Character> characters) {
-        return characters.stream()
-            .filter(com.elemental.model.Character::isAlive)
-            .min(Comparator.comparingInt(com.elemental.model.Character::getCurrentHP))
-            .orElse(null);
-    }
-
     /**
      * Track player defend pattern (for counter strategy)
      */
@@ -0,0 +1,18 @@
+package com.elemental.strategy;
+
+import com.elemental.model.BattleKernel;
+
+/**
+ * AI strategy for the data-oriented {@link BattleKernel}.
+ * Works on combatant slots instead of Character objects, so bulk simulations
+ * never build BattleAction or list objects per turn.
+ */
+public interface KernelAIStrategy {
+
+    /**
+     * Decide the actor's action and execute it on the kernel
+     * @param kernel The running battle
+     * @param actor Slot of the character taking action
+     */
+    void takeTurn(BattleKernel kernel, int actor);
+}
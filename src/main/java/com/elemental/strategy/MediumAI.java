@@ -2,13 +2,16 @@ package com.elemental.strategy;
 
 import com.elemental.model.ActionType;
 import com.elemental.model.BattleAction;
+import com.elemental.model.DamageCalculator;
+import com.elemental.model.Effectiveness;
 import com.elemental.model.Element;
 import com.elemental.model.Skill;
 import com.elemental.model.SkillType;
 
-import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.ToDoubleFunction;
 
 /**
  * FR-AI-003: Medium AI Behavior
@@ -23,20 +26,24 @@ import java.util.List;
  */
 public class MediumAI implements AIStrategy {
 
+    // Target scores (constant instances, so battle team indexes are reused)
+    private static final ToDoubleFunction<com.elemental.model.Character> CURRENT_HP =
+            com.elemental.model.Character::getCurrentHP;
+    private static final Map<Element, ToDoubleFunction<com.elemental.model.Character>> HP_OF_ELEMENT =
+            new EnumMap<>(Element.class);
+
+    static {
+        for (Element element : Element.values()) {
+            HP_OF_ELEMENT.put(element, c -> c.getElement() == element ? c.getCurrentHP() : Double.NaN);
+        }
+    }
+
     @Override
     public BattleAction decideAction(com.elemental.model.Character actor,
                                     List<com.elemental.model.Character> allies,
                                     List<com.elemental.model.Character> enemies) {
-        // Filter alive enemies
-        List<com.elemental.model.Character> aliveEnemies = new ArrayList<>();
-        for (com.elemental.model.Character enemy : enemies) {
-            if (enemy.isAlive()) {
-                aliveEnemies.add(enemy);
-            }
-        }
-
         // Safety check
-        if (aliveEnemies.isEmpty()) {
+        if (Targets.countAlive(enemies) == 0) {
             BattleAction action = new BattleAction(actor, ActionType.ATTACK);
             return action;
         }
@@ -73,7 +80,7 @@ public class MediumAI implements AIStrategy {
                     bestSkill.getSkillType() == SkillType.BUFF) {
                     action.setTarget(actor);
                 } else {
-                    action.setTarget(selectTarget(actor, aliveEnemies));
+                    action.setTarget(selectTarget(actor, enemies));
                 }
 
                 return action;
@@ -83,7 +90,7 @@ public class MediumAI implements AIStrategy {
         // Strategy 3: Low MP - Basic attack only
         if (mpPercentage < 20) {
             BattleAction action = new BattleAction(actor, ActionType.ATTACK);
-            action.setTarget(selectTarget(actor, aliveEnemies));
+            action.setTarget(selectTarget(actor, enemies));
             return action;
         }
 
@@ -92,13 +99,13 @@ public class MediumAI implements AIStrategy {
         if (cheapSkill != null && actor.canUseSkill(cheapSkill)) {
             BattleAction action = new BattleAction(actor, ActionType.SKILL);
             action.setSkill(cheapSkill);
-            action.setTarget(selectTarget(actor, aliveEnemies));
+            action.setTarget(selectTarget(actor, enemies));
             return action;
         }
 
         // Fallback: Basic attack
         BattleAction action = new BattleAction(actor, ActionType.ATTACK);
-        action.setTarget(selectTarget(actor, aliveEnemies));
+        action.setTarget(selectTarget(actor, enemies));
         return action;
     }
 
@@ -112,52 +119,18 @@ public class MediumAI implements AIStrategy {
             return null;
         }
 
-        // Filter alive targets
-        List<com.elemental.model.Character> aliveTargets = new ArrayList<>();
-        for (com.elemental.model.Character target : targets) {
-            if (target.isAlive()) {
-                aliveTargets.add(target);
-            }
-        }
-
-        if (aliveTargets.isEmpty()) {
-            return null;
-        }
-
-        // Find targets with element advantage
-        List<com.elemental.model.Character> advantagedTargets = new ArrayList<>();
-        for (com.elemental.model.Character target : aliveTargets) {
-            if (hasElementAdvantage(actor.getElement(), target.getElement())) {
-                advantagedTargets.add(target);
-            }
-        }
-
         // If we have element advantage, target lowest HP among them
-        if (!advantagedTargets.isEmpty()) {
-            return findLowestHP(advantagedTargets);
+        for (Element element : Element.values()) {
+            if (DamageCalculator.getEffectiveness(actor.getElement(), element) == Effectiveness.SUPER_EFFECTIVE) {
+                com.elemental.model.Character target = Targets.lowest(targets, HP_OF_ELEMENT.get(element));
+                if (target != null) {
+                    return target;
+                }
+            }
         }
 
-        // Otherwise, target lowest HP overall
-        return findLowestHP(aliveTargets);
-    }
-
-    /**
-     * Find character with lowest HP
-     */
-    private com.elemental.model.Character findLowestHP(List<com.elemental.model.Character> characters) {
-        return characters.stream()
-            .min(Comparator.comparingInt(com.elemental.model.Character::getCurrentHP))
-            .orElse(characters.get(0));
-    }
-
-    /**
-     * Check if attacker element has advantage over defender element
-     * Fire > Earth > Water > Fire
-     */
-    private boolean hasElementAdvantage(Element attacker, Element defender) {
-        return (attacker == Element.FIRE && defender == Element.EARTH) ||
-               (attacker == Element.EARTH && defender == Element.WATER) ||
-               (attacker == Element.WATER && defender == Element.FIRE);
+        // Otherwise, target lowest HP overall (null if nobody is alive)
+        return Targets.lowest(targets, CURRENT_HP);
     }
 
     /**
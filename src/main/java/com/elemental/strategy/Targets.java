@@ -0,0 +1,91 @@
+package com.elemental.strategy;
+
+import com.elemental.model.TeamView;
+
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Target queries shared by the AI strategies.
+ * Uses the indexes of a {@link TeamView} (battle teams) when available and falls back
+ * to a single scan for plain lists, without copying. Both paths give the same answer:
+ * only alive characters count, and ties go to the first one in team order.
+ */
+final class Targets {
+
+    // Private constructor to prevent instantiation
+    private Targets() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * Number of alive characters
+     */
+    static int countAlive(List<com.elemental.model.Character> team) {
+        if (team instanceof TeamView) {
+            return ((TeamView) team).getAliveCount();
+        }
+        int count = 0;
+        for (com.elemental.model.Character c : team) {
+            if (c.isAlive()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * The n-th alive character in team order, null if there are not that many
+     */
+    static com.elemental.model.Character aliveAt(List<com.elemental.model.Character> team, int n) {
+        if (team instanceof TeamView) {
+            return ((TeamView) team).getAlive(n);
+        }
+        for (com.elemental.model.Character c : team) {
+            if (c.isAlive() && n-- == 0) {
+                return c;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Alive character with the lowest score, null if none (NaN scores are skipped).
+     * Pass a constant score function so the TeamView index can be reused.
+     */
+    static com.elemental.model.Character lowest(List<com.elemental.model.Character> team,
+                                                 ToDoubleFunction<com.elemental.model.Character> score) {
+        if (team instanceof TeamView) {
+            return ((TeamView) team).lowest(score);
+        }
+        return scan(team, score, false);
+    }
+
+    /**
+     * Alive character with the highest score, null if none (NaN scores are skipped)
+     */
+    static com.elemental.model.Character highest(List<com.elemental.model.Character> team,
+                                                  ToDoubleFunction<com.elemental.model.Character> score) {
+        if (team instanceof TeamView) {
+            return ((TeamView) team).highest(score);
+        }
+        return scan(team, score, true);
+    }
+
+    private static com.elemental.model.Character scan(List<com.elemental.model.Character> team,
+                                                      ToDoubleFunction<com.elemental.model.Character> score,
+                                                      boolean highest) {
+        com.elemental.model.Character best = null;
+        double bestValue = 0;
+        for (com.elemental.model.Character c : team) {
+            if (!c.isAlive()) continue;
+            double value = score.applyAsDouble(c);
+            if (Double.isNaN(value)) continue;
+            if (best == null || (highest ? value > bestValue : value < bestValue)) {
+                best = c;
+                bestValue = value;
+            }
+        }
+        return best;
+    }
+}
@@ -28,6 +28,7 @@ public class BattleScreen {
     private SaveLoadService saveLoadService;
     private Scanner scanner;
     private Battle currentBattle;
+    private boolean autoBattle; // Auto-battle toggle, stays on between battles
 
     public BattleScreen(BattleService battleService, CharacterService characterService, Scanner scanner) {
         this(battleService, characterService, null, scanner);
@@ -139,7 +140,20 @@ public class BattleScreen {
      * Main battle loop
      */
     private void runBattleLoop() {
+        if (autoBattle) {
+            System.out.print("\n⚡ Auto-battle is ON. Keep it on? (Y/n): ");
+            autoBattle = !scanner.nextLine().trim().equalsIgnoreCase("n");
+        }
+
         while (battleService.isBattleActive()) {
+            if (autoBattle) {
+                BattleStatus status = runAutoBattle();
+                if (status != BattleStatus.ONGOING) {
+                    displayBattleResult(status);
+                    break;
+                }
+            }
+
             // Get next turn
             com.elemental.model.Character currentTurn = currentBattle.getNextTurn();
 
@@ -298,6 +312,7 @@ public class BattleScreen {
         System.out.println("2. Use Skill");
         System.out.println("3. Defend");
         System.out.println("4. View Stats");
+        System.out.println("5. Auto-Battle");
         System.out.print("Choice: ");
 
         String choice = scanner.nextLine().trim();
@@ -312,6 +327,11 @@ public class BattleScreen {
             case "4":
                 displayDetailedStats(player);
                 return selectPlayerAction(player);
+            case "5":
+                // AI takes this turn too, the rest resolves in the battle loop
+                autoBattle = true;
+                return createPlayerAI().decideAction(player,
+                        currentBattle.getPlayerTeam(), currentBattle.getEnemyTeam());
             default:
                 System.out.println("Invalid choice!");
                 return selectPlayerAction(player);
@@ -443,6 +463,48 @@ public class BattleScreen {
         currentBattle.executeAction(action);
     }
 
+    /**
+     * Auto-battle: AI drives both sides and the rest of the battle resolves headlessly.
+     * Only a summary and the final HP/MP bars are shown.
+     */
+    private BattleStatus runAutoBattle() {
+        int turnBefore = currentBattle.getTurnNumber();
+        long start = System.nanoTime();
+
+        // Enemies use the AI level of their strongest member (boss = HARD)
+        AIDifficulty enemyDifficulty = AIDifficulty.EASY;
+        for (com.elemental.model.Character enemy : currentBattle.getEnemyTeam()) {
+            AIDifficulty difficulty = getAIDifficultyHybrid(enemy);
+            if (difficulty.ordinal() > enemyDifficulty.ordinal()) {
+                enemyDifficulty = difficulty;
+            }
+        }
+        int actions = battleService.autoBattle(createPlayerAI(), AIStrategyFactory.create(enemyDifficulty));
+        double elapsedMs = (System.nanoTime() - start) / 1_000_000.0;
+
+        System.out.println("\n╔════════════════════════════════════════════════╗");
+        System.out.println("║              ⚡ AUTO-BATTLE ⚡                  ║");
+        System.out.println("╚════════════════════════════════════════════════╝");
+        System.out.println(String.format("  %d actions in %d turns (%.2f ms)",
+                actions, currentBattle.getTurnNumber() - turnBefore, elapsedMs));
+        displayTeams();
+
+        BattleStatus status = currentBattle.getBattleStatus();
+        if (status == BattleStatus.ONGOING) {
+            // Round limit reached without a winner: back to manual control
+            System.out.println("⚠️  No winner yet, auto-battle turned OFF.");
+            autoBattle = false;
+        }
+        return status;
+    }
+
+    /**
+     * AI used for the player's side in auto-battle
+     */
+    private AIStrategy createPlayerAI() {
+        return AIStrategyFactory.create(AIDifficulty.HARD);
+    }
+
     /**
      * HYBRID AI Difficulty Selection
      * Combines player preference with contextual adjustments
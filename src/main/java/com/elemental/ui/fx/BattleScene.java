@@ -11,6 +11,7 @@ import com.elemental.strategy.AIStrategyFactory;
 import javafx.animation.Interpolator;
 import javafx.animation.PauseTransition;
 import javafx.animation.ScaleTransition;
+import javafx.application.Platform;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.CacheHint;
@@ -23,9 +24,13 @@ import javafx.scene.paint.Color;
 import javafx.scene.transform.Scale;
 import javafx.util.Duration;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 public class BattleScene {
     // Layout Components
@@ -51,13 +56,36 @@ public class BattleScene {
     private ProgressBar playerHP, playerMP;
     private Label lblPlayerHPNum, lblPlayerMPNum; // Label untuk angka HP/MP Player
     private HBox actionMenu;
+    private ToggleButton btnAuto;
 
     // State
     private boolean isPaused = false;
+    private boolean playerTurnPending = false; // Scheduler handed the player a turn, waiting for the menu
+    private boolean autoBattle; // Diteruskan ke battle berikutnya (grinding)
+
+    // Daemon worker for this scene's enemy AI decisions (keeps them off the FX thread),
+    // shut down when the scene leaves the stage
+    private final ExecutorService aiExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "battle-ai");
+        thread.setDaemon(true);
+        return thread;
+    });
 
     public BattleScene() {
+        this(false);
+    }
+
+    /**
+     * @param startAuto Start with AUTO on (kept from the previous battle)
+     */
+    public BattleScene(boolean startAuto) {
+        this.autoBattle = startAuto;
+
         // 1. Root Stack (Background Hitam Pekat)
         rootStack = new StackPane();
+        rootStack.sceneProperty().addListener((obs, oldScene, newScene) -> {
+            if (oldScene != null && newScene == null) dispose();
+        });
         rootStack.getStyleClass().add("root");
         rootStack.setStyle("-fx-background-color: #0a0908;");
 
@@ -120,7 +148,20 @@ public class BattleScene {
         btnPause.setStyle("-fx-font-size: 18px; -fx-font-weight: bold; -fx-background-radius: 2;");
         btnPause.setOnAction(e -> showPauseMenu());
 
+        // Auto-battle toggle: AI plays both sides, battle resolves instantly
+        btnAuto = new ToggleButton("AUTO");
+        btnAuto.getStyleClass().add("button-medieval");
+        btnAuto.setPrefSize(80, 50);
+        btnAuto.setStyle("-fx-font-size: 14px; -fx-font-weight: bold; -fx-background-radius: 2;");
+        btnAuto.setSelected(autoBattle);
+        btnAuto.setOnAction(e -> {
+            autoBattle = btnAuto.isSelected();
+            // During the enemy's turn the battle resolves at the player's next turn instead
+            if (autoBattle && playerTurnPending) runAutoBattle();
+        });
+
         topBar.setCenter(topHudCenter);
+        topBar.setLeft(btnAuto);
         topBar.setRight(btnPause);
 
         layout.setTop(topBar);
@@ -280,6 +321,13 @@ public class BattleScene {
 
     public StackPane getLayout() { return rootStack; }
 
+    /**
+     * Stop the AI worker; called once the layout is removed from the scene
+     */
+    public void dispose() {
+        aiExecutor.shutdownNow();
+    }
+
     // --- PAUSE MENU ---
     private void showPauseMenu() {
         isPaused = true;
@@ -370,13 +418,18 @@ public class BattleScene {
 
     private void showSkillSelection() {
         if (isPaused) return;
-        Character player = MainFX.battleService.getCurrentBattle().getPlayerTeam().get(0);
+        Battle battle = MainFX.battleService.getCurrentBattle();
+        Character player = battle.getPlayerTeam().get(0);
+        Character enemy = battle.getEnemyTeam().get(0);
         VBox skillList = new VBox(10);
         skillList.setAlignment(Pos.CENTER);
         for (Skill skill : player.getSkills()) {
             Button btn = new Button(String.format("%s (%d MP)", skill.getName(), skill.getMpCost()));
             btn.getStyleClass().add("button-medieval");
             btn.setPrefWidth(300);
+            if (skill.getSkillType() == SkillType.DAMAGE && enemy.isAlive()) {
+                btn.setTooltip(new Tooltip(formatPreview(DamageCalculator.preview(player, enemy, skill), enemy)));
+            }
             if (!player.canUseSkill(skill)) {
                 btn.setDisable(true);
                 btn.setStyle("-fx-opacity: 0.5; -fx-text-fill: #8f8576;");
@@ -388,6 +441,19 @@ public class BattleScene {
         showOverlayMenu("SELECT SKILL", skillList);
     }
 
+    // Hover preview: damage range, element matchup, KO chance
+    private String formatPreview(DamagePreview preview, Character enemy) {
+        StringBuilder text = new StringBuilder(preview.toString());
+        if (preview.getEffectiveness() != Effectiveness.NORMAL) {
+            text.append('\n').append(preview.getEffectiveness().getMessage());
+        }
+        double killChance = preview.getKillChance(enemy.getCurrentHP());
+        if (killChance > 0) {
+            text.append(String.format("%nKO chance: %.0f%%", killChance * 100));
+        }
+        return text.toString();
+    }
+
     private void showItemSelection() {
         if (isPaused) return;
         Inventory inv = Inventory.getInstance();
@@ -443,6 +509,84 @@ public class BattleScene {
         updateBars(player, enemy);
 
         battleLog.setText("Battle Start!\n" + player.getName() + " vs " + enemy.getName() + "\n");
+
+        actionMenu.setDisable(true);
+        Platform.runLater(this::nextTurn);
+    }
+
+    /**
+     * Take the next turn from the battle's scheduler (same order as the console screen and
+     * auto-battle, so the turn cursor stays in sync). Player: wait for the action menu
+     * (or AUTO), enemy: let its AI act
+     */
+    private void nextTurn() {
+        Battle battle = MainFX.battleService.getCurrentBattle();
+        if (battle == null || battle.getBattleStatus() != BattleStatus.ONGOING || aiExecutor.isShutdown()) return;
+
+        Character actor = battle.getNextTurn();
+        if (actor == null) {
+            // Round ended on a stunned character: go on with the next round
+            PauseTransition pause = new PauseTransition(Duration.seconds(0.6));
+            pause.setOnFinished(e -> nextTurn());
+            pause.play();
+        } else {
+            takeTurn(battle, actor);
+        }
+    }
+
+    private void takeTurn(Battle battle, Character actor) {
+        if (battle.isPlayerTurn(actor)) {
+            playerTurnPending = true;
+            actionMenu.setDisable(false);
+            if (autoBattle) runAutoBattle();
+        } else {
+            startEnemyTurn(battle, actor);
+        }
+    }
+
+    /**
+     * Resolve the rest of the battle headlessly (no per-action animation or log),
+     * then render only a summary and the final bars.
+     * Runs on the player's turn: the AI finishes that turn first, then the simulator
+     * takes the following turns from the scheduler.
+     */
+    private void runAutoBattle() {
+        Battle battle = MainFX.battleService.getCurrentBattle();
+        if (isPaused || !playerTurnPending || battle == null || battle.getBattleStatus() != BattleStatus.ONGOING) return;
+        actionMenu.setDisable(true);
+        playerTurnPending = false;
+
+        int turnBefore = battle.getTurnNumber();
+        AIStrategy playerAI = AIStrategyFactory.create(AIDifficulty.HARD);
+        Character current = battle.getCurrentTurn();
+        battle.executeAction(playerAI.decideAction(current, battle.getPlayerTeam(), battle.getEnemyTeam()));
+        int actions = 1 + MainFX.battleService.autoBattle(
+                playerAI, AIStrategyFactory.create(GameSettings.getInstance().getAIDifficulty()));
+
+        Character player = battle.getPlayerTeam().get(0);
+        Character enemy = battle.getEnemyTeam().get(0);
+        playerHP.setProgress((double) player.getCurrentHP() / player.getMaxHP());
+        playerMP.setProgress((double) player.getCurrentMP() / player.getMaxMP());
+        enemyHP.setProgress((double) enemy.getCurrentHP() / enemy.getMaxHP());
+        updateStatsText(player, enemy);
+        updateBars(player, enemy);
+
+        battleLog.appendText(String.format("\n>> AUTO-BATTLE: %d actions in %d turns -> %s\n",
+                actions, battle.getTurnNumber() - turnBefore, battle.getBattleStatus()));
+
+        if (battle.getBattleStatus() != BattleStatus.ONGOING) {
+            handleBattleEnd(battle.getBattleStatus());
+        } else {
+            // Round limit reached without a winner: AUTO off, back to manual control
+            autoBattle = false;
+            btnAuto.setSelected(false);
+            battleLog.appendText(">> No winner yet, AUTO off. Continue manually.\n");
+            if (battle.isTurnPending()) {
+                takeTurn(battle, battle.getCurrentTurn());
+            } else {
+                nextTurn();
+            }
+        }
     }
 
     private void addBreathingEffect(Node node) {
@@ -514,7 +658,8 @@ public class BattleScene {
     }
 
     private void executePlayerAction(ActionType type, Skill skill, Item item) {
-        if (isPaused) return;
+        if (isPaused || !playerTurnPending) return;
+        playerTurnPending = false;
         Battle battle = MainFX.battleService.getCurrentBattle();
         Character player = battle.getPlayerTeam().get(0);
         Character enemy = battle.getEnemyTeam().get(0);
@@ -538,24 +683,91 @@ public class BattleScene {
         }
         updateUI(player, enemy, damageDealt, isCrit);
 
-        if (battle.getBattleStatus() != BattleStatus.ONGOING) return;
-
         actionMenu.setDisable(true);
+        nextTurn();
+    }
+
+    private void startEnemyTurn(Battle battle, Character enemy) {
+        Character player = battle.getPlayerTeam().get(0);
+
+        // Enemy AI decides on a worker thread while the pause animation plays. It only sees
+        // copies taken here on the FX thread; the decision is mapped back onto the live
+        // characters on the FX thread once both are done
+        AIDifficulty difficulty = GameSettings.getInstance().getAIDifficulty();
+        List<Character> enemyCopies = copyTeam(battle.getEnemyTeam());
+        List<Character> playerCopies = copyTeam(battle.getPlayerTeam());
+        Character enemyCopy = enemyCopies.get(battle.getEnemyTeam().indexOf(enemy));
+        CompletableFuture<BattleAction> enemyDecision = CompletableFuture.supplyAsync(
+                () -> AIStrategyFactory.create(difficulty).decideAction(enemyCopy, enemyCopies, playerCopies),
+                aiExecutor);
+
         PauseTransition pause = new PauseTransition(Duration.seconds(1.2));
-        pause.setOnFinished(e -> {
-            if (battle.getBattleStatus() != BattleStatus.ONGOING) return;
-            int pHpBefore = player.getCurrentHP();
-            AIStrategy ai = AIStrategyFactory.create(GameSettings.getInstance().getAIDifficulty());
-            BattleAction enemyAction = ai.decideAction(enemy, battle.getEnemyTeam(), battle.getPlayerTeam());
-            battle.executeAction(enemyAction);
-            int pDamage = Math.max(0, pHpBefore - player.getCurrentHP());
-            boolean pCrit = false;
-            updateUI(enemy, player, pDamage, pCrit);
-            actionMenu.setDisable(false);
-        });
+        pause.setOnFinished(e -> enemyDecision.whenCompleteAsync(
+                (decided, error) -> executeEnemyAction(battle, enemy, player,
+                        error == null ? toLiveAction(decided, enemy, battle, enemyCopies, playerCopies) : null, error),
+                Platform::runLater));
         pause.play();
     }
 
+    private static List<Character> copyTeam(List<Character> team) {
+        List<Character> copies = new ArrayList<>(team.size());
+        for (Character c : team) {
+            copies.add(c.copy());
+        }
+        return copies;
+    }
+
+    /**
+     * Same action on the live characters (FX thread). Skills are shared between a character
+     * and its copy; targets are mapped by their position in the copied teams.
+     */
+    private static BattleAction toLiveAction(BattleAction decided, Character actor, Battle battle,
+                                             List<Character> allyCopies, List<Character> foeCopies) {
+        if (decided == null) return null;
+        BattleAction action = new BattleAction(actor, decided.getActionType());
+        action.setSkill(decided.getSkill());
+        action.setItem(decided.getItem());
+        Character target = decided.getTarget();
+        if (target != null) {
+            int foe = indexOfCopy(foeCopies, target);
+            int ally = indexOfCopy(allyCopies, target);
+            if (foe >= 0) action.setTarget(battle.getPlayerTeam().get(foe));
+            else if (ally >= 0) action.setTarget(battle.getEnemyTeam().get(ally));
+        }
+        return action;
+    }
+
+    private static int indexOfCopy(List<Character> copies, Character c) {
+        for (int i = 0; i < copies.size(); i++) {
+            if (copies.get(i) == c) return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Apply the enemy's decided action (FX thread)
+     */
+    private void executeEnemyAction(Battle battle, Character enemy, Character player,
+                                    BattleAction enemyAction, Throwable error) {
+        // Battle may have ended or been replaced while the AI was thinking
+        if (battle != MainFX.battleService.getCurrentBattle()
+                || battle.getBattleStatus() != BattleStatus.ONGOING) return;
+
+        if (error != null || enemyAction == null) {
+            // AI failed: fall back to a basic attack so the battle can continue
+            enemyAction = new BattleAction(enemy, ActionType.ATTACK);
+            enemyAction.setTarget(player);
+        }
+
+        int pHpBefore = player.getCurrentHP();
+        battle.executeAction(enemyAction);
+        int pDamage = Math.max(0, pHpBefore - player.getCurrentHP());
+        boolean pCrit = false;
+        updateUI(enemy, player, pDamage, pCrit);
+
+        nextTurn();
+    }
+
     private void handleBattleEnd(BattleStatus status) {
         actionMenu.setDisable(true);
         if (MainFX.saveLoadService != null) MainFX.saveLoadService.autoSave();
@@ -568,7 +780,7 @@ public class BattleScene {
                             Character player = MainFX.battleService.getCurrentBattle().getPlayerTeam().get(0);
                             List<Character> enemies = generateEnemyTeam(player.getLevel());
                             MainFX.battleService.startBattle(Collections.singletonList(player), enemies);
-                            MainFX.primaryStage.getScene().setRoot(new BattleScene().getLayout());
+                            MainFX.primaryStage.getScene().setRoot(new BattleScene(autoBattle).getLayout());
                         } catch (Exception e) { MainFX.showMainMenu(); }
                     },
                     () -> MainFX.showMainMenu());
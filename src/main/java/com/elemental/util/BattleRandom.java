@@ -0,0 +1,72 @@
+package com.elemental.util;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Seedable, splittable random source for a single battle.
+ *
+ * Same SplitMix64 algorithm as {@link java.util.SplittableRandom}, but the whole
+ * state is one {@code long} that can be read and restored, so a battle can be
+ * replayed bit-for-bit from its seed. Not thread-safe: every battle (and every
+ * AI that needs randomness) gets its own instance, usually via {@link #split()},
+ * so parallel simulations never share a seed.
+ */
+public final class BattleRandom implements RandomGenerator {
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private long state;
+
+    /**
+     * Create with a random seed
+     */
+    public BattleRandom() {
+        this(ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Create with a fixed seed (reproducible)
+     */
+    public BattleRandom(long seed) {
+        this.state = seed;
+    }
+
+    /**
+     * Derive the seed of battle number {@code index} in a simulation run.
+     * Stateless, so any battle of a run can be replayed on its own.
+     */
+    public static long seedFor(long baseSeed, long index) {
+        return mix64(baseSeed + GOLDEN_GAMMA * (index + 1));
+    }
+
+    @Override
+    public long nextLong() {
+        state += GOLDEN_GAMMA;
+        return mix64(state);
+    }
+
+    /**
+     * Create an independent generator seeded from this one.
+     * Advances this generator by one step.
+     */
+    public BattleRandom split() {
+        return new BattleRandom(mix64(nextLong()));
+    }
+
+    /**
+     * Current state, restoring it with {@link #setState} replays the same sequence
+     */
+    public long getState() {
+        return state;
+    }
+
+    public void setState(long state) {
+        this.state = state;
+    }
+
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
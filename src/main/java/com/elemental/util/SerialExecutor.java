@@ -0,0 +1,61 @@
+package com.elemental.util;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Executor that runs its tasks one at a time, in submission order,
+ * on top of a shared backing executor.
+ *
+ * Thousands of serial executors can share one thread pool: no thread is
+ * reserved per executor, a task is only scheduled on the pool while the
+ * executor has work queued.
+ */
+public class SerialExecutor implements Executor {
+    private final Queue<Runnable> tasks = new ArrayDeque<>();
+    private final Executor backingExecutor;
+    private Runnable active;
+
+    public SerialExecutor(Executor backingExecutor) {
+        this.backingExecutor = backingExecutor;
+    }
+
+    @Override
+    public synchronized void execute(Runnable task) {
+        tasks.add(() -> {
+            try {
+                task.run();
+            } finally {
+                scheduleNext();
+            }
+        });
+        if (active == null) {
+            scheduleNext();
+        }
+    }
+
+    /**
+     * If the backing executor rejects the task, it is dropped and the exception rethrown;
+     * the executor stays usable and the next execute() schedules the remaining tasks.
+     */
+    private synchronized void scheduleNext() {
+        active = tasks.poll();
+        if (active != null) {
+            try {
+                backingExecutor.execute(active);
+            } catch (RejectedExecutionException e) {
+                active = null;
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Number of tasks waiting (not counting the running one)
+     */
+    public synchronized int getPendingCount() {
+        return tasks.size();
+    }
+}
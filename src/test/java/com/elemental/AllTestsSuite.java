@@ -14,7 +14,9 @@ import org.junit.platform.suite.api.SuiteDisplayName;
     "com.elemental.model",
     "com.elemental.factory",
     "com.elemental.service",
-    "com.elemental.decorator"
+    "com.elemental.decorator",
+    "com.elemental.simulation",
+    "com.elemental.util"
 })
 public class AllTestsSuite {
     // This class remains empty, used only as a holder for the above annotations
@@ -0,0 +1,177 @@
+package com.elemental.model;
+
+import com.elemental.factory.ItemFactory;
+import com.elemental.strategy.AIStrategy;
+import com.elemental.strategy.EasyAI;
+import com.elemental.util.BattleRandom;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BattleJournal Tests")
+class BattleJournalTest {
+
+    private Battle battle;
+    private BattleJournal journal;
+    private List<int[]> hpAfterAction; // HP of every combatant after each action
+
+    @BeforeEach
+    void setUp() {
+        List<Character> playerTeam = new ArrayList<>();
+        playerTeam.add(new Character("Hero", CharacterClass.WARRIOR, Element.FIRE));
+        playerTeam.add(new Character("Healer", CharacterClass.MAGE, Element.WATER));
+        List<Character> enemyTeam = new ArrayList<>();
+        enemyTeam.add(new Character("Orc", CharacterClass.RANGER, Element.EARTH));
+        enemyTeam.get(0).applyStatusEffect(StatusEffectType.POISON, 2);
+
+        Map<String, Integer> items = new HashMap<>();
+        items.put("Health Potion", 3);
+
+        battle = new Battle(new BattleRandom(1234L));
+        battle.getBattleLog().setEnabled(false);
+        battle.setRewardsEnabled(false);
+        battle.setInventory(Inventory.createStandalone(items));
+        journal = new BattleJournal();
+        battle.setJournal(journal);
+        battle.initializeBattle(playerTeam, enemyTeam);
+
+        hpAfterAction = new ArrayList<>();
+        AIStrategy ai = new EasyAI(new BattleRandom(99L));
+        boolean usedPotion = false;
+        while (battle.getBattleStatus() == BattleStatus.ONGOING && battle.getTurnNumber() < 100) {
+            Character actor = battle.getNextTurn();
+            if (actor == null) continue;
+
+            BattleAction action;
+            if (battle.isPlayerTurn(actor)) {
+                if (!usedPotion && actor.getCurrentHP() < actor.getMaxHP()) {
+                    action = new BattleAction(actor, ActionType.ITEM);
+                    action.setItem(ItemFactory.getItem("Health Potion"));
+                    action.setTarget(actor);
+                    usedPotion = true;
+                } else {
+                    action = ai.decideAction(actor, battle.getPlayerTeam(), battle.getEnemyTeam());
+                }
+            } else {
+                action = ai.decideAction(actor, battle.getEnemyTeam(), battle.getPlayerTeam());
+            }
+            battle.executeAction(action);
+            hpAfterAction.add(currentHP(battle));
+        }
+    }
+
+    @Test
+    @DisplayName("Full replay should reproduce the final state")
+    void testFullReplay() {
+        Battle replayed = BattleReplayer.replay(BattleJournal.fromBytes(journal.toByteArray()));
+
+        assertEquals(battle.getBattleStatus(), replayed.getBattleStatus());
+        assertEquals(battle.getTurnNumber(), replayed.getTurnNumber());
+        assertArrayEquals(currentHP(battle), currentHP(replayed));
+        assertEquals(battle.getRandom().getState(), replayed.getRandom().getState());
+    }
+
+    @Test
+    @DisplayName("Replay should rebuild the state after any action")
+    void testPartialReplay() {
+        assertEquals(hpAfterAction.size(), journal.getActionCount());
+
+        for (int i = 0; i < hpAfterAction.size(); i++) {
+            Battle replayed = BattleReplayer.replay(journal, i + 1);
+            assertArrayEquals(hpAfterAction.get(i), currentHP(replayed), "State differs after action " + (i + 1));
+        }
+    }
+
+    @Test
+    @DisplayName("Journal should be compact")
+    void testCompactEncoding() {
+        assertTrue(journal.size() < 50 + 8 * journal.getActionCount() + 100,
+                "Journal too large: " + journal.size() + " bytes");
+        assertEquals(journal.getActionCount(), BattleJournal.fromBytes(journal.toByteArray()).getActionCount());
+    }
+
+    @Test
+    @DisplayName("Replay should keep the stacks of status effects")
+    void testStackedEffectReplay() {
+        Character orc = new Character("Orc", CharacterClass.RANGER, Element.EARTH);
+        orc.restoreStatusEffect(StatusEffectType.BURN, 3, 3); // As after three INTENSIFY applications
+        List<Character> playerTeam = new ArrayList<>(List.of(new Character("Hero", CharacterClass.WARRIOR, Element.FIRE)));
+        List<Character> enemyTeam = new ArrayList<>(List.of(orc));
+
+        Battle stacked = new Battle(new BattleRandom(7L));
+        stacked.getBattleLog().setEnabled(false);
+        stacked.setRewardsEnabled(false);
+        stacked.setInventory(Inventory.createStandalone(new HashMap<>()));
+        BattleJournal stackedJournal = new BattleJournal();
+        stacked.setJournal(stackedJournal);
+        stacked.initializeBattle(playerTeam, enemyTeam);
+
+        // Everyone defends, so the orc only loses HP to the stacked burn
+        for (int turn = 0; turn < 4 && stacked.getBattleStatus() == BattleStatus.ONGOING; turn++) {
+            Character actor = stacked.getNextTurn();
+            if (actor != null) {
+                stacked.executeAction(new BattleAction(actor, ActionType.DEFEND));
+            }
+        }
+
+        BattleJournal recorded = BattleJournal.fromBytes(stackedJournal.toByteArray());
+        Character replayedOrc = BattleReplayer.replay(recorded, 0).getEnemyTeam().get(0);
+        assertEquals(3, replayedOrc.getStatusEffectStacks(StatusEffectType.BURN));
+        assertEquals(3, replayedOrc.getStatusEffectDuration(StatusEffectType.BURN));
+
+        assertTrue(orc.getCurrentHP() < orc.getMaxHP());
+        assertArrayEquals(currentHP(stacked), currentHP(BattleReplayer.replay(recorded)));
+    }
+
+    @Test
+    @DisplayName("Replay should reject an unknown format")
+    void testRejectCorruptJournal() {
+        byte[] data = journal.toByteArray();
+        data[0] = 99;
+        assertThrows(IllegalArgumentException.class, () -> BattleReplayer.replay(BattleJournal.fromBytes(data)));
+    }
+
+    @Test
+    @DisplayName("Replay should reject truncated data with IllegalArgumentException")
+    void testTruncatedJournal() {
+        byte[] data = journal.toByteArray();
+        assertThrows(IllegalArgumentException.class,
+                () -> BattleReplayer.replay(BattleJournal.fromBytes(Arrays.copyOf(data, 5))));
+
+        // Cutting at an entry boundary leaves a valid shorter journal; anything else must fail cleanly
+        for (int length = 1; length < data.length; length++) {
+            byte[] truncated = Arrays.copyOf(data, length);
+            try {
+                BattleReplayer.replay(BattleJournal.fromBytes(truncated));
+            } catch (IllegalArgumentException expected) {
+                // Corrupt journal
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Items should be recorded by name")
+    void testItemsByName() {
+        String raw = new String(journal.toByteArray(), StandardCharsets.UTF_8);
+        assertTrue(raw.contains("Health Potion"), "Item names keep old journals valid when items change");
+    }
+
+    private static int[] currentHP(Battle battle) {
+        List<Character> all = new ArrayList<>(battle.getPlayerTeam());
+        all.addAll(battle.getEnemyTeam());
+        int[] hp = new int[all.size()];
+        for (int i = 0; i < hp.length; i++) {
+            hp[i] = all.get(i).getCurrentHP();
+        }
+        return hp;
+    }
+}
@@ -0,0 +1,191 @@
+package com.elemental.model;
+
+import com.elemental.strategy.EasyAI;
+import com.elemental.util.BattleRandom;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BattleKernel Tests")
+class BattleKernelTest {
+
+    private List<Character> playerTeam;
+    private List<Character> enemyTeam;
+
+    @BeforeEach
+    void setUp() {
+        playerTeam = new ArrayList<>();
+        playerTeam.add(new Character("Archer", CharacterClass.RANGER, Element.FIRE));
+        playerTeam.add(new Character("Healer", CharacterClass.MAGE, Element.WATER));
+        enemyTeam = new ArrayList<>();
+        enemyTeam.add(new Character("Orc", CharacterClass.WARRIOR, Element.EARTH));
+        enemyTeam.add(new Character("Witch", CharacterClass.MAGE, Element.FIRE));
+    }
+
+    @Test
+    @DisplayName("Kernel should play exactly the same battle as Battle")
+    void testMatchesBattle() {
+        assertMatchesBattle(BattleKernelTest::copy);
+    }
+
+    @Test
+    @DisplayName("Kernel should apply item buffs and SHIELDED to damage like Battle")
+    void testMatchesBattleWithBuffs() {
+        assertMatchesBattle(team -> {
+            List<Character> copy = copy(team);
+            copy.get(0).applyItemBuff(ItemBuffType.ATTACK, 25, 4);
+            copy.get(1).applyItemBuff(ItemBuffType.DEFENSE, 30, 3);
+            copy.get(1).applyStatusEffect(StatusEffectType.SHIELDED, 5);
+            copy.get(0).applyStatusEffect(StatusEffectType.SHIELDED, 3);
+            return copy;
+        });
+    }
+
+    private void assertMatchesBattle(UnaryOperator<List<Character>> copy) {
+        for (long seed = 1; seed <= 20; seed++) {
+            List<Character> kernelPlayers = copy.apply(playerTeam);
+            List<Character> kernelEnemies = copy.apply(enemyTeam);
+
+            Battle battle = new Battle(seed);
+            battle.getBattleLog().setEnabled(false);
+            battle.setRewardsEnabled(false);
+            EasyAI battlePlayerAI = new EasyAI(battle.getRandom().split());
+            EasyAI battleEnemyAI = new EasyAI(battle.getRandom().split());
+            battle.initializeBattle(copy.apply(playerTeam), copy.apply(enemyTeam));
+
+            BattleKernel kernel = new BattleKernel();
+            kernel.load(kernelPlayers, kernelEnemies);
+            kernel.reset(seed);
+            EasyAI kernelPlayerAI = new EasyAI(kernel.getRandom().split());
+            EasyAI kernelEnemyAI = new EasyAI(kernel.getRandom().split());
+
+            while (battle.getBattleStatus() == BattleStatus.ONGOING && battle.getTurnNumber() < 100) {
+                Character actor = battle.getNextTurn();
+                int slot = kernel.nextTurn();
+                assertEquals(indexOf(battle, actor), slot);
+                if (actor == null) continue;
+
+                boolean player = battle.isPlayerTurn(actor);
+                battle.executeAction((player ? battlePlayerAI : battleEnemyAI).decideAction(actor,
+                        player ? battle.getPlayerTeam() : battle.getEnemyTeam(),
+                        player ? battle.getEnemyTeam() : battle.getPlayerTeam()));
+                (player ? kernelPlayerAI : kernelEnemyAI).takeTurn(kernel, slot);
+
+                List<Character> all = new ArrayList<>(battle.getPlayerTeam());
+                all.addAll(battle.getEnemyTeam());
+                for (int i = 0; i < all.size(); i++) {
+                    assertEquals(all.get(i).getCurrentHP(), kernel.getHP(i), "HP of slot " + i);
+                    assertEquals(all.get(i).getCurrentMP(), kernel.getMP(i), "MP of slot " + i);
+                }
+            }
+
+            assertEquals(battle.getBattleStatus(), kernel.getBattleStatus());
+            assertEquals(battle.getTurnNumber(), kernel.getTurnNumber());
+            assertEquals(battle.getRandom().getState(), kernel.getRandom().getState());
+        }
+    }
+
+    @Test
+    @DisplayName("copyTo should write the kernel state back into characters")
+    void testCopyTo() {
+        enemyTeam.get(0).applyStatusEffect(StatusEffectType.POISON, 3);
+        BattleKernel kernel = new BattleKernel(new BattleRandom(5L));
+        kernel.load(playerTeam, enemyTeam);
+
+        int orc = 2;
+        kernel.execute(kernel.nextTurn(), ActionType.DEFEND, -1, -1);
+        while (kernel.getCurrentTurn() != orc) {
+            int actor = kernel.nextTurn();
+            kernel.execute(actor, ActionType.DEFEND, -1, -1);
+        }
+        kernel.copyTo(playerTeam, enemyTeam);
+
+        Character orcCharacter = enemyTeam.get(0);
+        int tick = StatusEffectEngine.tickDamage(StatusEffectType.POISON, orcCharacter.getMaxHP());
+        assertEquals(orcCharacter.getMaxHP() - tick, orcCharacter.getCurrentHP());
+        assertEquals(2, orcCharacter.getStatusEffectDuration(StatusEffectType.POISON));
+        assertTrue(orcCharacter.isDefending());
+    }
+
+    @Test
+    @DisplayName("reset should rewind to the loaded state")
+    void testResetIsReproducible() {
+        BattleKernel kernel = new BattleKernel();
+        kernel.load(playerTeam, enemyTeam);
+
+        int[] first = playOut(kernel, 77L);
+        int[] second = playOut(kernel, 77L);
+
+        assertArrayEquals(first, second);
+        assertEquals(playerTeam.get(0).getMaxHP(), playerTeam.get(0).getCurrentHP()); // Characters untouched
+    }
+
+    @Test
+    @DisplayName("Battle end should be latched until reset, like Battle")
+    void testBattleEndLatched() {
+        for (Character enemy : enemyTeam) {
+            enemy.takeDamage(enemy.getMaxHP());
+        }
+        BattleKernel kernel = new BattleKernel(new BattleRandom(9L));
+        kernel.load(playerTeam, enemyTeam);
+
+        int actor = kernel.nextTurn();
+        kernel.execute(actor, ActionType.DEFEND, -1, -1);
+        assertEquals(BattleStatus.VICTORY, kernel.getBattleStatus());
+        kernel.execute(actor == 0 ? 1 : 0, ActionType.DEFEND, -1, -1);
+        assertEquals(BattleStatus.VICTORY, kernel.getBattleStatus());
+
+        kernel.reset();
+        assertEquals(BattleStatus.ONGOING, kernel.getBattleStatus(), "reset should reopen the battle");
+    }
+
+    @Test
+    @DisplayName("Items should be rejected")
+    void testItemsNotSupported() {
+        BattleKernel kernel = new BattleKernel();
+        kernel.load(playerTeam, enemyTeam);
+        int actor = kernel.nextTurn();
+
+        assertThrows(IllegalArgumentException.class, () -> kernel.execute(actor, ActionType.ITEM, actor, -1));
+    }
+
+    private int[] playOut(BattleKernel kernel, long seed) {
+        kernel.reset(seed);
+        EasyAI ai = new EasyAI(new BattleRandom(seed));
+        while (kernel.getBattleStatus() == BattleStatus.ONGOING && kernel.getTurnNumber() < 100) {
+            int actor = kernel.nextTurn();
+            if (actor >= 0) {
+                ai.takeTurn(kernel, actor);
+            }
+        }
+        int[] hp = new int[kernel.getCombatantCount() + 1];
+        for (int i = 0; i < kernel.getCombatantCount(); i++) {
+            hp[i] = kernel.getHP(i);
+        }
+        hp[kernel.getCombatantCount()] = kernel.getTurnNumber();
+        return hp;
+    }
+
+    private static List<Character> copy(List<Character> team) {
+        List<Character> copy = new ArrayList<>();
+        for (Character c : team) {
+            copy.add(new Character(c.getName(), c.getCharacterClass(), c.getElement()));
+        }
+        return copy;
+    }
+
+    private static int indexOf(Battle battle, Character character) {
+        if (character == null) {
+            return -1;
+        }
+        List<Character> all = new ArrayList<>(battle.getPlayerTeam());
+        all.addAll(battle.getEnemyTeam());
+        return all.indexOf(character);
+    }
+}
@@ -0,0 +1,204 @@
+package com.elemental.model;
+
+import com.elemental.strategy.AIStrategy;
+import com.elemental.strategy.EasyAI;
+import com.elemental.util.BattleRandom;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BattleSnapshot Tests")
+class BattleSnapshotTest {
+
+    private Battle battle;
+    private Character hero;
+    private Character orc;
+
+    @BeforeEach
+    void setUp() {
+        hero = new Character("Hero", CharacterClass.WARRIOR, Element.FIRE);
+        orc = new Character("Orc", CharacterClass.RANGER, Element.EARTH);
+        List<Character> playerTeam = new ArrayList<>();
+        playerTeam.add(hero);
+        playerTeam.add(new Character("Healer", CharacterClass.MAGE, Element.WATER));
+        List<Character> enemyTeam = new ArrayList<>();
+        enemyTeam.add(orc);
+
+        battle = new Battle(new BattleRandom(42L));
+        battle.getBattleLog().setEnabled(false);
+        battle.setRewardsEnabled(false);
+        battle.initializeBattle(playerTeam, enemyTeam);
+    }
+
+    @Test
+    @DisplayName("Restore should bring back HP, MP, effects, buffs and defend flag")
+    void testRestoreCharacterState() {
+        orc.applyStatusEffect(StatusEffectType.POISON, 2);
+        hero.applyItemBuff(ItemBuffType.ATTACK, 20, 3);
+        BattleSnapshot snapshot = battle.snapshot();
+
+        hero.takeDamage(50);
+        hero.setCurrentMP(0);
+        hero.setDefending(true);
+        hero.applyStatusEffect(StatusEffectType.STUN, 1);
+        hero.applyItemBuff(ItemBuffType.DEFENSE, 30, 2);
+        orc.removeStatusEffect(StatusEffectType.POISON);
+
+        battle.restore(snapshot);
+
+        assertEquals(hero.getMaxHP(), hero.getCurrentHP());
+        assertEquals(hero.getMaxMP(), hero.getCurrentMP());
+        assertFalse(hero.isDefending());
+        assertFalse(hero.hasStatusEffect(StatusEffectType.STUN));
+        assertTrue(hero.hasItemBuff(ItemBuffType.ATTACK));
+        assertEquals(20, hero.getItemBuffValue(ItemBuffType.ATTACK));
+        assertFalse(hero.hasItemBuff(ItemBuffType.DEFENSE));
+        assertEquals(2, orc.getStatusEffectDuration(StatusEffectType.POISON));
+    }
+
+    @Test
+    @DisplayName("Restore should revive a character that died after the snapshot")
+    void testRestoreAfterDeath() {
+        BattleSnapshot snapshot = battle.snapshot();
+
+        orc.takeDamage(9999);
+        assertEquals(BattleStatus.VICTORY, battle.checkBattleEnd());
+
+        battle.restore(snapshot);
+
+        assertTrue(orc.isAlive());
+        assertEquals(BattleStatus.ONGOING, battle.getBattleStatus());
+    }
+
+    @Test
+    @DisplayName("Restore should not reopen a rewarded battle")
+    void testRestoreWithRewards() {
+        Battle rewarded = new Battle(new BattleRandom(5L));
+        rewarded.getBattleLog().setEnabled(false);
+        Inventory inventory = Inventory.createStandalone(new HashMap<>());
+        rewarded.setInventory(inventory);
+        Character slime = new Character("Slime", CharacterClass.WARRIOR, Element.WATER);
+        rewarded.initializeBattle(new ArrayList<>(List.of(new Character("Solo", CharacterClass.MAGE, Element.EARTH))),
+                new ArrayList<>(List.of(slime)));
+        BattleSnapshot snapshot = rewarded.snapshot();
+
+        slime.takeDamage(9999);
+        assertEquals(BattleStatus.VICTORY, rewarded.checkBattleEnd());
+        Map<String, Integer> drops = new HashMap<>(inventory.getAllItems());
+
+        assertThrows(IllegalStateException.class, () -> rewarded.restore(snapshot));
+        assertEquals(BattleStatus.VICTORY, rewarded.getBattleStatus());
+        assertFalse(slime.isAlive());
+        assertEquals(drops, inventory.getAllItems(), "Rewards should be given only once");
+    }
+
+    @Test
+    @DisplayName("Restore should be rejected while a journal is attached")
+    void testRestoreWithJournal() {
+        Battle journaled = new Battle(new BattleRandom(5L));
+        journaled.getBattleLog().setEnabled(false);
+        journaled.setRewardsEnabled(false);
+        journaled.setInventory(Inventory.createStandalone(new HashMap<>()));
+        journaled.setJournal(new BattleJournal());
+        journaled.initializeBattle(new ArrayList<>(List.of(new Character("Solo", CharacterClass.MAGE, Element.EARTH))),
+                new ArrayList<>(List.of(new Character("Slime", CharacterClass.WARRIOR, Element.WATER))));
+
+        BattleSnapshot snapshot = journaled.snapshot();
+        assertThrows(IllegalStateException.class, () -> journaled.restore(snapshot));
+    }
+
+    @Test
+    @DisplayName("Continuing from a restored snapshot should be deterministic")
+    void testDeterministicContinuation() {
+        for (int i = 0; i < 2; i++) {
+            Character actor = battle.getNextTurn();
+            battle.executeAction(new EasyAI(new BattleRandom(i)).decideAction(actor,
+                    battle.isPlayerTurn(actor) ? battle.getPlayerTeam() : battle.getEnemyTeam(),
+                    battle.isPlayerTurn(actor) ? battle.getEnemyTeam() : battle.getPlayerTeam()));
+        }
+        BattleSnapshot snapshot = battle.snapshot();
+
+        int[] first = playOut(new EasyAI(new BattleRandom(7L)));
+        battle.restore(snapshot);
+        int[] second = playOut(new EasyAI(new BattleRandom(7L)));
+
+        assertArrayEquals(first, second);
+    }
+
+    @Test
+    @DisplayName("Restore should keep a pending turn")
+    void testRestorePendingTurn() {
+        Character actor = battle.getNextTurn();
+        BattleSnapshot pending = battle.snapshot();
+        List<Character> forecast = battle.forecastTurns(4);
+
+        battle.executeAction(new BattleAction(actor, ActionType.DEFEND));
+        assertFalse(battle.isTurnPending());
+
+        battle.restore(pending);
+        assertTrue(battle.isTurnPending());
+        assertSame(actor, battle.getCurrentTurn());
+        assertEquals(forecast, battle.forecastTurns(4));
+    }
+
+    @Test
+    @DisplayName("Snapshot object should be reusable")
+    void testReuseSnapshot() {
+        BattleSnapshot snapshot = battle.snapshot();
+        int[] array = snapshot.state;
+
+        hero.takeDamage(10);
+        battle.snapshot(snapshot);
+
+        assertSame(array, snapshot.state);
+        hero.heal(10);
+        battle.restore(snapshot);
+        assertEquals(hero.getMaxHP() - 10, hero.getCurrentHP());
+    }
+
+    @Test
+    @DisplayName("Restoring a snapshot of another battle should fail")
+    void testRestoreMismatch() {
+        Battle other = new Battle(1L);
+        other.getBattleLog().setEnabled(false);
+        List<Character> players = new ArrayList<>();
+        players.add(new Character("Solo", CharacterClass.MAGE, Element.EARTH));
+        List<Character> enemies = new ArrayList<>();
+        enemies.add(new Character("Slime", CharacterClass.WARRIOR, Element.WATER));
+        other.initializeBattle(players, enemies);
+
+        BattleSnapshot snapshot = battle.snapshot();
+        assertThrows(IllegalArgumentException.class, () -> other.restore(snapshot));
+    }
+
+    /**
+     * Play the battle to the end and return the final state:
+     * HP of all combatants, turn number, RNG state (low bits)
+     */
+    private int[] playOut(AIStrategy ai) {
+        while (battle.getBattleStatus() == BattleStatus.ONGOING && battle.getTurnNumber() < 100) {
+            Character actor = battle.getNextTurn();
+            if (actor == null) continue;
+            boolean player = battle.isPlayerTurn(actor);
+            battle.executeAction(ai.decideAction(actor,
+                    player ? battle.getPlayerTeam() : battle.getEnemyTeam(),
+                    player ? battle.getEnemyTeam() : battle.getPlayerTeam()));
+        }
+        List<Character> all = new ArrayList<>(battle.getPlayerTeam());
+        all.addAll(battle.getEnemyTeam());
+        int[] result = new int[all.size() + 2];
+        for (int i = 0; i < all.size(); i++) {
+            result[i] = all.get(i).getCurrentHP();
+        }
+        result[all.size()] = battle.getTurnNumber();
+        result[all.size() + 1] = (int) battle.getRandom().getState();
+        return result;
+    }
+}
@@ -1,5 +1,6 @@
 package com.elemental.model;
 
+import com.elemental.factory.ItemFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
@@ -60,6 +61,20 @@ class BattleTest {
         assertTrue(nextChar.isAlive());
     }
 
+    @Test
+    @DisplayName("Turn should stay pending until its character acts")
+    void testTurnPending() {
+        battle.initializeBattle(playerTeam, enemyTeam);
+        assertFalse(battle.isTurnPending());
+
+        Character actor = battle.getNextTurn();
+        assertTrue(battle.isTurnPending());
+        assertSame(actor, battle.getCurrentTurn());
+
+        battle.executeAction(new BattleAction(actor, ActionType.DEFEND));
+        assertFalse(battle.isTurnPending());
+    }
+
     @Test
     @DisplayName("Should have battle log")
     void testBattleLog() {
@@ -133,6 +148,35 @@ class BattleTest {
         assertEquals(BattleStatus.DEFEAT, battle.getBattleStatus());
     }
 
+    @Test
+    @DisplayName("Revived character should keep the battle going")
+    void testReviveKeepsBattleOngoing() {
+        battle.initializeBattle(playerTeam, enemyTeam);
+
+        for (Character player : playerTeam) {
+            player.takeDamage(player.getMaxHP());
+        }
+        ItemFactory.getItem("Revive").applyEffect(playerTeam.get(0));
+
+        assertEquals(BattleStatus.ONGOING, battle.checkBattleEnd());
+    }
+
+    @Test
+    @DisplayName("Victory should be latched once decided")
+    void testVictoryLatched() {
+        battle.setRewardsEnabled(false);
+        battle.initializeBattle(playerTeam, enemyTeam);
+        for (Character enemy : enemyTeam) {
+            enemy.takeDamage(enemy.getMaxHP());
+        }
+        assertEquals(BattleStatus.VICTORY, battle.checkBattleEnd());
+
+        // A late revive does not reopen a finished battle
+        enemyTeam.get(0).setStatus(Status.NORMAL);
+        enemyTeam.get(0).setCurrentHP(10);
+        assertEquals(BattleStatus.VICTORY, battle.checkBattleEnd());
+    }
+
     @Test
     @DisplayName("Battle should continue when both teams have alive members")
     void testBattleOngoing() {
@@ -197,5 +241,73 @@ class BattleTest {
         assertEquals(BattleStatus.ONGOING, battle.getBattleStatus());
         assertNotNull(battle.getNextTurn());
     }
-}
 
+    @Test
+    @DisplayName("Turn forecast should match the turns actually taken")
+    void testForecastTurns() {
+        battle.setRewardsEnabled(false);
+        battle.initializeBattle(playerTeam, enemyTeam);
+        playerTeam.get(1).applyStatusEffect(StatusEffectType.SPEED_BUFF, 2);
+        enemyTeam.get(0).applyStatusEffect(StatusEffectType.STUN, 1);
+        battle.getNextTurn(); // Current turn not executed yet
+
+        List<Character> forecast = battle.forecastTurns(12);
+        assertEquals(forecast, battle.forecastTurns(12), "Forecast should not change the schedule");
+
+        Character actor = battle.getCurrentTurn();
+        battle.executeAction(new BattleAction(actor, ActionType.DEFEND));
+        for (Character expected : forecast) {
+            Character next = battle.getNextTurn();
+            if (next == null) {
+                next = battle.getNextTurn(); // Round ended on a skipped (stunned) character
+            }
+            assertSame(expected, next);
+            battle.executeAction(new BattleAction(next, ActionType.DEFEND));
+        }
+        assertFalse(forecast.contains(enemyTeam.get(0)), "Stunned character should be skipped");
+        assertSame(playerTeam.get(1), forecast.get(2), "Speed buff should move Hero2 first next round");
+    }
+
+    @Test
+    @DisplayName("Forecast should stop when nobody can act")
+    void testForecastNobodyCanAct() {
+        battle.initializeBattle(playerTeam, enemyTeam);
+        for (Character c : battle.getPlayerTeam()) {
+            c.applyStatusEffect(StatusEffectType.STUN, 1);
+        }
+        for (Character c : battle.getEnemyTeam()) {
+            c.applyStatusEffect(StatusEffectType.STUN, 1);
+        }
+
+        assertTrue(battle.forecastTurns(5).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> battle.forecastTurns(-1));
+    }
+
+    @Test
+    @DisplayName("Damage over time should hit once per turn and effects should expire on schedule")
+    void testStatusEffectsTickOnce() {
+        battle.setRewardsEnabled(false);
+        battle.initializeBattle(playerTeam, enemyTeam);
+        Character actor = battle.getNextTurn();
+        actor.applyStatusEffect(StatusEffectType.POISON, 2);
+        actor.applyStatusEffect(StatusEffectType.SHIELDED, 10); // Longer than one lap of the wheel
+        int tick = StatusEffectEngine.tickDamage(StatusEffectType.POISON, actor.getMaxHP());
+
+        for (int turn = 1; turn <= 10; turn++) {
+            battle.executeAction(new BattleAction(actor, ActionType.DEFEND));
+            if (turn <= 2) {
+                assertEquals(actor.getMaxHP() - tick * turn, actor.getCurrentHP(), "One tick per turn");
+            }
+            assertEquals(turn < 2, actor.hasStatusEffect(StatusEffectType.POISON));
+            assertEquals(10 - turn, actor.getStatusEffectDuration(StatusEffectType.SHIELDED));
+            Character next;
+            while ((next = battle.getNextTurn()) != actor) {
+                if (next != null) {
+                    battle.executeAction(new BattleAction(next, ActionType.DEFEND));
+                }
+            }
+        }
+        assertFalse(actor.hasStatusEffect(StatusEffectType.SHIELDED));
+        assertEquals(actor.getMaxHP() - tick * 2, actor.getCurrentHP());
+    }
+}
@@ -4,6 +4,10 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 @DisplayName("Character Model Tests")
@@ -141,6 +145,120 @@ class CharacterTest {
         assertFalse(mage.hasStatusEffect(StatusEffectType.BURN));
     }
 
+    @Test
+    @DisplayName("Status effect mask and view should track durations")
+    void testStatusEffectMaskAndView() {
+        mage.applyStatusEffect(StatusEffectType.SPEED_BUFF, 3);
+        mage.applyStatusEffect(StatusEffectType.POISON, 1);
+
+        long expectedMask = (1L << StatusEffectType.POISON.ordinal()) | (1L << StatusEffectType.SPEED_BUFF.ordinal());
+        assertEquals(expectedMask, mage.getStatusEffectMask());
+        Map<StatusEffectType, Integer> view = mage.getActiveStatusEffects();
+        assertEquals(List.of(StatusEffectType.POISON, StatusEffectType.SPEED_BUFF),
+                new ArrayList<>(view.keySet()), "View should be in ordinal order");
+        assertEquals(3, view.get(StatusEffectType.SPEED_BUFF));
+        assertThrows(UnsupportedOperationException.class, () -> view.remove(StatusEffectType.POISON));
+
+        mage.processStatusEffects();
+        assertFalse(view.containsKey(StatusEffectType.POISON), "View should be live");
+        assertEquals(0, mage.getStatusEffectDuration(StatusEffectType.POISON));
+        assertEquals(2, view.get(StatusEffectType.SPEED_BUFF));
+        assertEquals(1, view.size());
+    }
+
+    @Test
+    @DisplayName("Derived stats should follow buffs, effects and level ups")
+    void testDerivedStats() {
+        Character warrior = new Character("Tank", CharacterClass.WARRIOR, Element.EARTH);
+        int attack = warrior.getAttack();
+        int defense = warrior.getDefense();
+        assertEquals(attack, warrior.getModifiedAttack());
+
+        warrior.applyItemBuff(ItemBuffType.ATTACK, 20, 1);
+        assertEquals((int) (attack * 1.2), warrior.getModifiedAttack());
+        assertEquals(Map.of(ItemBuffType.ATTACK, 1), warrior.getItemBuffs());
+        @SuppressWarnings("deprecation")
+        Map<String, Integer> legacy = warrior.getActiveItemBuffs();
+        assertEquals(Map.of("ATTACK", 1), legacy, "Deprecated accessor keeps the String keys");
+        warrior.applyStatusEffect(StatusEffectType.SHIELDED, 2);
+        assertEquals((int) (defense * 1.5), warrior.getModifiedDefenseWithBuffs());
+        warrior.applyStatusEffect(StatusEffectType.SPEED_BUFF, 2);
+        assertEquals((int) (warrior.getSpeed() * 1.3), warrior.getModifiedSpeed());
+
+        warrior.processItemBuffs();
+        assertFalse(warrior.hasItemBuff(ItemBuffType.ATTACK));
+        assertEquals(attack, warrior.getModifiedAttack(), "Expired buff should be dropped");
+
+        warrior.removeStatusEffect(StatusEffectType.SHIELDED);
+        warrior.levelUp();
+        assertEquals(attack + 3, warrior.getModifiedAttack());
+        assertEquals(defense + 2, warrior.getModifiedDefenseWithBuffs());
+        assertTrue(warrior.getItemBuffs().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Characters of the same class and element should share one template")
+    void testSharedTemplate() {
+        Character other = new Character("OtherMage", mage.getCharacterClass(), mage.getElement());
+
+        assertSame(mage.getTemplate(), other.getTemplate());
+        assertSame(mage.getSkills(), other.getSkills(), "Skills should be shared flyweights");
+        assertSame(mage.getSkills(), mage.getSkills(), "getSkills should not copy");
+        assertThrows(UnsupportedOperationException.class, () -> mage.getSkills().clear());
+        assertEquals(mage.getTemplate().getMaxHP(), mage.getMaxHP());
+
+        other.levelUp();
+        assertEquals(mage.getTemplate().getAttack(), mage.getAttack(), "Level ups should not touch the template");
+    }
+
+    @Test
+    @DisplayName("Closed-form leveling should match the step-by-step loops exactly")
+    void testClosedFormLeveling() {
+        int[] fast = new int[Character.STATE_SIZE];
+        int[] slow = new int[Character.STATE_SIZE];
+        for (int target : new int[] {0, 1, 2, 10, 11, 50, 98, 99, 100, 150}) {
+            // Enemy path: gainExperience(level * 100) per level
+            Character enemyFast = new Character("Fast", CharacterClass.RANGER, Element.EARTH);
+            Character enemySlow = new Character("Slow", CharacterClass.RANGER, Element.EARTH);
+            enemyFast.gainLevels(target - 1);
+            for (int i = 1; i < target; i++) {
+                enemySlow.gainExperience(enemySlow.getLevel() * 100);
+            }
+            enemyFast.writeState(fast, 0);
+            enemySlow.writeState(slow, 0);
+            assertArrayEquals(slow, fast, "gainLevels to level " + target);
+
+            // Save-load path: levelUp() per level
+            Character savedFast = new Character("Fast", CharacterClass.MAGE, Element.FIRE);
+            Character savedSlow = new Character("Slow", CharacterClass.MAGE, Element.FIRE);
+            savedFast.gainExperience(40);
+            savedSlow.gainExperience(40);
+            savedFast.levelUp(target - 1);
+            for (int i = 0; i < target - 1; i++) {
+                savedSlow.levelUp();
+            }
+            savedFast.writeState(fast, 0);
+            savedSlow.writeState(slow, 0);
+            assertArrayEquals(slow, fast, "levelUp(n) to level " + target);
+        }
+
+        // Experience above 999 is capped by the first gain, like the loop
+        Character veteranFast = new Character("Fast", CharacterClass.WARRIOR, Element.WATER);
+        Character veteranSlow = new Character("Slow", CharacterClass.WARRIOR, Element.WATER);
+        veteranFast.levelUp(19);
+        veteranSlow.levelUp(19);
+        veteranFast.restoreStats(veteranFast.getLevel(), 1500, veteranFast.getMaxHP(), veteranFast.getMaxMP(),
+                veteranFast.getAttack(), veteranFast.getDefense(), veteranFast.getSpeed());
+        veteranSlow.restoreStats(veteranSlow.getLevel(), 1500, veteranSlow.getMaxHP(), veteranSlow.getMaxMP(),
+                veteranSlow.getAttack(), veteranSlow.getDefense(), veteranSlow.getSpeed());
+        veteranFast.gainLevels(5);
+        for (int i = 0; i < 5; i++) {
+            veteranSlow.gainExperience(veteranSlow.getLevel() * 100);
+        }
+        assertEquals(veteranSlow.getExperience(), veteranFast.getExperience());
+        assertEquals(veteranSlow.getLevel(), veteranFast.getLevel());
+    }
+
     @Test
     @DisplayName("Should have skills initialized")
     void testSkillsInitialization() {
@@ -162,5 +280,21 @@ class CharacterTest {
         mage.useMP(mage.getCurrentMP() + 10);
         assertEquals(0, mage.getCurrentMP());
     }
-}
 
+    @Test
+    @DisplayName("Copy should be detached with the same state and shared skills")
+    void testCopy() {
+        mage.takeDamage(30);
+        mage.applyStatusEffect(StatusEffectType.BURN, 3);
+        Character copy = mage.copy();
+
+        assertNotSame(mage, copy);
+        assertEquals(mage.getCurrentHP(), copy.getCurrentHP());
+        assertEquals(mage.getStatusEffectDuration(StatusEffectType.BURN),
+                copy.getStatusEffectDuration(StatusEffectType.BURN));
+        assertSame(mage.getSkills().get(0), copy.getSkills().get(0));
+
+        copy.takeDamage(10);
+        assertNotEquals(mage.getCurrentHP(), copy.getCurrentHP(), "Copy should not change the original");
+    }
+}
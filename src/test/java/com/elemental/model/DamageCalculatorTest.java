@@ -1,9 +1,12 @@
 package com.elemental.model;
 
+import com.elemental.util.BattleRandom;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 @DisplayName("DamageCalculator Tests")
@@ -111,5 +114,138 @@ class DamageCalculatorTest {
             }
         }
     }
-}
 
+    @Test
+    @DisplayName("Effectiveness should match the element modifier")
+    void testEffectiveness() {
+        assertEquals(Effectiveness.SUPER_EFFECTIVE, DamageCalculator.getEffectiveness(Element.WATER, Element.FIRE));
+        assertEquals(Effectiveness.NOT_VERY_EFFECTIVE, DamageCalculator.getEffectiveness(Element.FIRE, Element.WATER));
+        assertEquals(Effectiveness.NORMAL, DamageCalculator.getEffectiveness(Element.EARTH, Element.EARTH));
+
+        for (Element attacker : Element.values()) {
+            for (Element defender : Element.values()) {
+                assertEquals(DamageCalculator.getEffectiveness(attacker, defender).getModifier(),
+                        DamageCalculator.getElementModifier(attacker, defender));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Resolve should roll the critical hit exactly once and report it")
+    void testResolveSingleRoll() {
+        Character attacker = new Character("Attacker", CharacterClass.WARRIOR, Element.WATER);
+        Character defender = new Character("Defender", CharacterClass.MAGE, Element.FIRE);
+        defender.setDefending(true);
+        BattleRandom rng = new BattleRandom(3L);
+        BattleRandom expected = new BattleRandom(3L);
+        DamageOutcome outcome = new DamageOutcome();
+
+        for (int i = 0; i < 50; i++) {
+            boolean critical = DamageCalculator.isCritical(expected);
+            assertSame(outcome, DamageCalculator.resolve(attacker, defender, null, rng, outcome));
+
+            assertEquals(critical, outcome.isCritical());
+            assertEquals(expected.getState(), rng.getState(), "Exactly one RNG draw per hit");
+            assertEquals(Effectiveness.SUPER_EFFECTIVE, outcome.getEffectiveness());
+            assertTrue(outcome.isDefended());
+            assertEquals(DamageCalculator.computeDamage(attacker.getAttack(), 1.0, 1.5,
+                    defender.getDefense(), critical, true), outcome.getDamage());
+        }
+    }
+
+    @Test
+    @DisplayName("Batch damage should match the per-target formula")
+    void testBatchDamage() {
+        List<Character> targets = List.of(
+                waterDefender,
+                new Character("EarthRanger", CharacterClass.RANGER, Element.EARTH),
+                new Character("FireMage2", CharacterClass.MAGE, Element.FIRE),
+                new Character("Fallen", CharacterClass.WARRIOR, Element.EARTH));
+        targets.get(1).setDefending(true);
+        targets.get(3).takeDamage(targets.get(3).getMaxHP());
+
+        int[] damage = new int[targets.size()];
+        double[] expected = new double[targets.size()];
+        DamageCalculator.calculateDamage(fireAttacker, testSkill, targets, damage);
+        DamageCalculator.expectedDamage(fireAttacker, testSkill, targets, expected);
+
+        for (int i = 0; i < 3; i++) {
+            Character target = targets.get(i);
+            double modifier = DamageCalculator.getElementModifier(testSkill.getElement(), target.getElement());
+            int normal = DamageCalculator.computeDamage(fireAttacker.getAttack(), testSkill.getDamageMultiplier(),
+                    modifier, target.getDefense(), false, target.isDefending());
+            int critical = DamageCalculator.computeDamage(fireAttacker.getAttack(), testSkill.getDamageMultiplier(),
+                    modifier, target.getDefense(), true, target.isDefending());
+            assertEquals(normal, damage[i]);
+            assertEquals(0.9 * normal + 0.1 * critical, expected[i], 1e-9);
+        }
+        assertEquals(0, damage[3], "Dead targets take no damage");
+        assertEquals(0.0, expected[3]);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> DamageCalculator.calculateDamage(fireAttacker, null, targets, new int[2]));
+    }
+
+    @Test
+    @DisplayName("Preview should give the exact damage range and kill chance without RNG")
+    void testPreview() {
+        DamagePreview preview = DamageCalculator.preview(fireAttacker, waterDefender, testSkill);
+        int normal = DamageCalculator.computeDamage(fireAttacker.getAttack(), 1.0, 0.7,
+                waterDefender.getDefense(), false, false);
+        int critical = DamageCalculator.computeDamage(fireAttacker.getAttack(), 1.0, 0.7,
+                waterDefender.getDefense(), true, false);
+
+        assertEquals(normal, preview.getMin());
+        assertEquals(critical, preview.getMax());
+        assertEquals(0.9 * normal + 0.1 * critical, preview.getExpected(), 1e-9);
+        assertEquals(Effectiveness.NOT_VERY_EFFECTIVE, preview.getEffectiveness());
+        assertEquals(1.0, preview.getKillChance(normal));
+        assertEquals(0.1, preview.getKillChance(normal + 1), 1e-9);
+        assertEquals(0.0, preview.getKillChance(critical + 1));
+        assertSame(preview, DamageCalculator.preview(fireAttacker, waterDefender, testSkill), "Should be memoized");
+
+        waterDefender.setDefending(true);
+        DamagePreview defended = DamageCalculator.preview(fireAttacker, waterDefender, testSkill);
+        assertTrue(defended.isDefended(), "Changed state should not hit the old entry");
+        assertTrue(defended.getMin() < preview.getMin());
+    }
+
+    @Test
+    @DisplayName("Item buffs and SHIELDED should change damage")
+    void testBuffsAffectDamage() {
+        Character attacker = new Character("Attacker", CharacterClass.WARRIOR, Element.EARTH);
+        Character defender = new Character("Defender", CharacterClass.WARRIOR, Element.EARTH);
+        int plain = DamageCalculator.resolve(attacker, defender, null, new BattleRandom(1L)).getDamage();
+
+        attacker.applyItemBuff(ItemBuffType.ATTACK, 50, 3);
+        int buffed = DamageCalculator.resolve(attacker, defender, null, new BattleRandom(1L)).getDamage();
+        assertTrue(buffed > plain, "Attack buff should raise damage");
+
+        defender.applyStatusEffect(StatusEffectType.SHIELDED, 2);
+        assertEquals((int) (defender.getDefense() * 1.5), defender.getModifiedDefenseWithBuffs());
+        int shielded = DamageCalculator.resolve(attacker, defender, null, new BattleRandom(1L)).getDamage();
+        assertTrue(shielded < buffed, "SHIELDED should lower damage");
+
+        DamageOutcome outcome = DamageCalculator.resolve(attacker, defender, null, new BattleRandom(1L));
+        assertEquals(DamageCalculator.computeDamage(attacker.getModifiedAttack(), 1.0, 1.0,
+                defender.getModifiedDefenseWithBuffs(), outcome.isCritical(), false), outcome.getDamage());
+        assertEquals(DamageCalculator.computeDamage(attacker.getModifiedAttack(), 1.0, 1.0,
+                defender.getModifiedDefenseWithBuffs(), false, false),
+                DamageCalculator.preview(attacker, defender, null).getMin(), "Preview should see the buffs");
+    }
+
+    @Test
+    @DisplayName("Pipeline should reject stages out of order and skip missing stages")
+    void testPipelineStages() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new DamagePipeline(DamagePipeline.Stage.BASE, DamagePipeline.Stage.ATTACK_BUFF));
+        assertThrows(IllegalArgumentException.class,
+                () -> new DamagePipeline(DamagePipeline.Stage.BASE, DamagePipeline.Stage.BASE));
+
+        DamagePipeline noDefend = new DamagePipeline(DamagePipeline.Stage.BASE, DamagePipeline.Stage.ELEMENT,
+                DamagePipeline.Stage.DEFENSE);
+        assertEquals(noDefend.apply(40, 0, 1.0, 1.0, 1.0, 20, 0, 1.0, false, false),
+                noDefend.apply(40, 0, 1.0, 1.0, 1.0, 20, 0, 1.0, false, true));
+        assertEquals(36, noDefend.apply(40, 0, 1.0, 1.0, 1.0, 20, 0, 1.0, false, false));
+    }
+}
@@ -4,6 +4,10 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 @DisplayName("Inventory Tests")
@@ -42,6 +46,21 @@ class InventoryTest {
         assertTrue(inventory.hasItem("Elixir"));
     }
 
+    @Test
+    @DisplayName("Should add a batch of items in one call")
+    void testAddItems() {
+        Map<String, Integer> batch = new LinkedHashMap<>();
+        batch.put("Health Potion", 2);
+        batch.put("Elixir", 1);
+        batch.put("Broken", 0);
+
+        var rejected = inventory.addItems(batch);
+
+        assertEquals(7, inventory.getAllItems().get("Health Potion"));
+        assertTrue(inventory.hasItem("Elixir"));
+        assertEquals(Set.of("Broken"), rejected);
+    }
+
     @Test
     @DisplayName("Should not add negative quantity")
     void testAddItemNegativeQuantity() {
@@ -0,0 +1,76 @@
+package com.elemental.model;
+
+import com.elemental.factory.ItemFactory;
+import com.elemental.util.BattleRandom;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("LootTable Tests")
+class LootTableTest {
+
+    @Test
+    @DisplayName("Default table should keep the 60/30/10 drop rates")
+    void testDefaultRates() {
+        LootTable table = LootTable.get(LootTable.DEFAULT_TABLE);
+
+        assertEquals(0.30, table.getChance("Health Potion"), 1e-9);
+        assertEquals(0.30, table.getChance("Mana Potion"), 1e-9);
+        assertEquals(0.075, table.getChance("Antidote"), 1e-9);
+        assertEquals(0.10, table.getChance("Revive"), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Every drop should be a known item")
+    void testItemsExist() {
+        for (LootTable.Entry entry : LootTable.get(LootTable.DEFAULT_TABLE).getEntries()) {
+            assertNotNull(ItemFactory.getItem(entry.getItem()), entry.getItem());
+        }
+    }
+
+    @Test
+    @DisplayName("Every enemy should use the default table, bosses included")
+    void testForEnemy() {
+        Character orc = new Character("Orc", CharacterClass.WARRIOR, Element.EARTH);
+        assertSame(LootTable.get(LootTable.DEFAULT_TABLE), LootTable.forEnemy(orc));
+
+        orc.setIsBoss(true);
+        assertSame(LootTable.get(LootTable.DEFAULT_TABLE), LootTable.forEnemy(orc));
+    }
+
+    @Test
+    @DisplayName("Alias sampling should follow the weights")
+    void testSamplingFrequencies() {
+        LootTable table = new LootTable(List.of(
+                new LootTable.Entry("A", 1, false),
+                new LootTable.Entry("B", 2, false),
+                new LootTable.Entry("C", 7, true)));
+        BattleRandom random = new BattleRandom(42L);
+        Map<String, Integer> counts = new HashMap<>();
+        int rolls = 200_000;
+
+        for (int i = 0; i < rolls; i++) {
+            counts.merge(table.roll(random).getItem(), 1, Integer::sum);
+        }
+
+        assertEquals(0.1, counts.get("A") / (double) rolls, 0.01);
+        assertEquals(0.2, counts.get("B") / (double) rolls, 0.01);
+        assertEquals(0.7, counts.get("C") / (double) rolls, 0.01);
+    }
+
+    @Test
+    @DisplayName("Should reject invalid tables")
+    void testInvalidTables() {
+        assertThrows(IllegalArgumentException.class, () -> new LootTable(List.of()));
+        assertThrows(IllegalArgumentException.class,
+                () -> new LootTable(List.of(new LootTable.Entry("A", 0, false))));
+        assertThrows(IllegalStateException.class,
+                () -> LootTable.parse(new StringReader("{\"boss\": [{\"item\": \"Elixir\", \"weight\": 1}]}")));
+    }
+}
@@ -196,5 +196,32 @@ class SkillTest {
             }
         }
     }
-}
 
+    @Test
+    @DisplayName("Secondary effects should be resolved when the skill is built")
+    void testResolvedEffects() {
+        Skill fireball = new Skill("Fireball", 15, 1.5, SkillType.DAMAGE, Element.FIRE);
+        assertEquals(StatusEffectType.BURN, fireball.getEffect().getStatusEffect());
+        assertEquals(0.2, fireball.getEffect().getChance());
+        assertEquals(2, fireball.getEffect().getDuration());
+
+        Skill quickStep = new Skill("Quick Step", 15, 1.3, SkillType.BUFF);
+        assertEquals(StatusEffectType.SPEED_BUFF, quickStep.getEffect().getStatusEffect());
+        assertTrue(quickStep.getEffect().isOnSelf());
+
+        assertTrue(new Skill("Water Bolt", 15, 1.5, SkillType.DAMAGE, Element.WATER).getEffect().isNone());
+        assertTrue(new Skill("Shield Bash", 15, 1.2, SkillType.DEBUFF).getEffect().isNone());
+    }
+
+    @Test
+    @DisplayName("Skills can declare their effect as data")
+    void testDeclaredEffect() {
+        Skill venom = new Skill("Venom Spit", 10, 1.1, SkillType.DAMAGE, Element.EARTH,
+                SkillEffect.onTarget(StatusEffectType.POISON, 1.0, 4));
+
+        assertEquals(StatusEffectType.POISON, venom.getEffect().getStatusEffect());
+        assertEquals(4, venom.getEffect().getDuration());
+        assertThrows(IllegalArgumentException.class,
+                () -> SkillEffect.onTarget(StatusEffectType.BURN, 1.5, 2));
+    }
+}
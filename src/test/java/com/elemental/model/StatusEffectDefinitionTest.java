@@ -0,0 +1,90 @@
+package com.elemental.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("StatusEffectDefinition Tests")
+class StatusEffectDefinitionTest {
+
+    private static final String ALL_DEFAULTS =
+            "{ \"POISON\": {}, \"BURN\": {}, \"STUN\": {}, \"SHIELDED\": {}, \"SPEED_BUFF\": {} }";
+
+    @Test
+    @DisplayName("Default data should keep the built-in effect rules")
+    void testDefaultDefinitions() {
+        assertEquals(5, StatusEffectEngine.tickDamage(StatusEffectType.POISON, 100));
+        assertEquals(7, StatusEffectEngine.tickDamage(StatusEffectType.BURN, 100));
+        assertEquals(0, StatusEffectEngine.tickDamage(StatusEffectType.STUN, 100));
+        assertEquals(1.5, StatusEffectDefinition.get(StatusEffectType.SHIELDED).getDefenseModifier());
+        assertEquals(1.3, StatusEffectDefinition.get(StatusEffectType.SPEED_BUFF).getSpeedModifier());
+
+        for (StatusEffectType effectType : StatusEffectType.values()) {
+            StatusEffectDefinition definition = StatusEffectDefinition.get(effectType);
+            assertSame(effectType, definition.getType());
+            assertEquals(StatusEffectDefinition.StackRule.REFRESH, definition.getStacking());
+            assertEquals(1, definition.getMaxStacks());
+        }
+
+        long shielded = 1L << StatusEffectType.SHIELDED.ordinal();
+        long speedBuff = 1L << StatusEffectType.SPEED_BUFF.ordinal();
+        assertEquals(1.5, StatusEffectDefinition.defenseModifier(shielded | speedBuff));
+        assertEquals((int) (40 * 1.3), StatusEffectDefinition.modifiedSpeed(40, shielded | speedBuff));
+        assertEquals(40, StatusEffectDefinition.modifiedSpeed(40, shielded));
+    }
+
+    @Test
+    @DisplayName("Parsing should fill defaults and reject invalid data")
+    void testParse() {
+        StatusEffectDefinition[] parsed = StatusEffectDefinition.parse(new StringReader(ALL_DEFAULTS));
+        StatusEffectDefinition poison = parsed[StatusEffectType.POISON.ordinal()];
+        assertEquals(StatusEffectDefinition.StackRule.REFRESH, poison.getStacking());
+        assertEquals(1, poison.getMaxStacks());
+        assertEquals(1.0, poison.getSpeedModifier());
+        assertEquals(0, poison.tickDamage(100, 1));
+
+        assertThrows(IllegalStateException.class, () -> StatusEffectDefinition.parse(new StringReader(
+                "{ \"POISON\": {} }")), "Every effect must be defined");
+        assertThrows(IllegalStateException.class, () -> StatusEffectDefinition.parse(new StringReader(
+                ALL_DEFAULTS.replace("\"STUN\": {}", "\"STUN\": {}, \"FREEZE\": {}"))),
+                "Unknown effects should be rejected");
+        assertThrows(IllegalStateException.class, () -> StatusEffectDefinition.parse(new StringReader(
+                ALL_DEFAULTS.replace("\"BURN\": {}", "\"BURN\": { \"maxStacks\": 0 }"))));
+        assertThrows(IllegalStateException.class, () -> StatusEffectDefinition.parse(new StringReader(
+                ALL_DEFAULTS.replace("\"BURN\": {}", "\"BURN\": { \"speedModifier\": -1 }"))));
+    }
+
+    @Test
+    @DisplayName("Re-applying should follow the stack rule")
+    void testStackRules() {
+        StatusEffectDefinition intensify = new StatusEffectDefinition(StatusEffectType.BURN,
+                StatusEffectDefinition.StackRule.INTENSIFY, 3, 0.07, 1.0, 1.0, 1.0);
+        StatusEffectDefinition extend = new StatusEffectDefinition(StatusEffectType.SHIELDED,
+                StatusEffectDefinition.StackRule.EXTEND, 1, 0, 1.0, 1.5, 1.0);
+        StatusEffectEngine engine = new StatusEffectEngine();
+
+        for (int i = 0; i < 5; i++) {
+            engine.apply(intensify, 2);
+        }
+        assertEquals(3, engine.getStacks(StatusEffectType.BURN), "Stacks should be capped");
+        assertEquals(2, engine.getRemaining(StatusEffectType.BURN));
+        assertEquals(21, intensify.tickDamage(100, engine.getStacks(StatusEffectType.BURN)));
+
+        engine.apply(extend, 2);
+        engine.advance();
+        engine.apply(extend, 3);
+        assertEquals(4, engine.getRemaining(StatusEffectType.SHIELDED));
+        assertEquals(1, engine.getStacks(StatusEffectType.SHIELDED));
+
+        engine.apply(StatusEffectType.SHIELDED, 1); // Default data: REFRESH
+        assertEquals(1, engine.getRemaining(StatusEffectType.SHIELDED));
+        engine.remove(StatusEffectType.BURN);
+        assertEquals(0, engine.getStacks(StatusEffectType.BURN));
+
+        assertThrows(IllegalArgumentException.class, () -> new StatusEffectDefinition(StatusEffectType.BURN,
+                StatusEffectDefinition.StackRule.INTENSIFY, 0, 0.07, 1.0, 1.0, 1.0));
+    }
+}
@@ -0,0 +1,146 @@
+package com.elemental.model;
+
+import com.elemental.factory.ItemFactory;
+import com.elemental.strategy.AIStrategy;
+import com.elemental.strategy.HardAI;
+import com.elemental.strategy.MediumAI;
+import com.elemental.util.BattleRandom;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TeamView Tests")
+class TeamViewTest {
+
+    private static final ToDoubleFunction<Character> ATTACK = Character::getAttack;
+
+    private Battle battle;
+    private TeamView enemies;
+
+    @BeforeEach
+    void setUp() {
+        List<Character> playerTeam = new ArrayList<>();
+        playerTeam.add(new Character("Hero", CharacterClass.WARRIOR, Element.FIRE));
+        List<Character> enemyTeam = new ArrayList<>();
+        Element[] elements = Element.values();
+        for (int i = 0; i < 8; i++) {
+            enemyTeam.add(new Character("Orc " + i, CharacterClass.values()[i % 3], elements[i % elements.length]));
+        }
+
+        battle = new Battle(new BattleRandom(7L));
+        battle.getBattleLog().setEnabled(false);
+        battle.setRewardsEnabled(false);
+        battle.initializeBattle(playerTeam, enemyTeam);
+        enemies = battle.getEnemyTeam();
+    }
+
+    @Test
+    @DisplayName("Alive index should follow deaths and revives")
+    void testAliveIndex() {
+        assertEquals(8, enemies.getAliveCount());
+        enemies.get(0).takeDamage(9999);
+        enemies.get(3).takeDamage(9999);
+
+        assertEquals(6, enemies.getAliveCount());
+        assertSame(enemies.get(1), enemies.getAlive(0));
+        assertSame(enemies.get(4), enemies.getAlive(2));
+        assertSame(enemies.get(7), enemies.getAlive(5));
+        assertNull(enemies.getAlive(6));
+
+        ItemFactory.getItem("Revive").applyEffect(enemies.get(3));
+        assertEquals(7, enemies.getAliveCount());
+        assertSame(enemies.get(3), enemies.getAlive(2));
+    }
+
+    @Test
+    @DisplayName("Lowest and highest queries should track HP and attack changes")
+    void testScoreQueries() {
+        enemies.get(5).takeDamage(enemies.get(5).getCurrentHP() - 1);
+        assertSame(enemies.get(5), enemies.getLowestHP());
+
+        enemies.get(5).takeDamage(9999);
+        Character expected = null;
+        for (Character c : enemies) {
+            if (c.isAlive() && (expected == null || c.getCurrentHP() < expected.getCurrentHP())) {
+                expected = c;
+            }
+        }
+        assertSame(expected, enemies.getLowestHP());
+
+        enemies.get(6).setAttack(500);
+        assertSame(enemies.get(6), enemies.highest(ATTACK));
+        enemies.get(6).setAttack(1);
+        assertNotSame(enemies.get(6), enemies.highest(ATTACK));
+    }
+
+    @Test
+    @DisplayName("View should be read-only with constant-time membership")
+    void testReadOnlyMembership() {
+        Character stranger = new Character("Stranger", CharacterClass.MAGE, Element.WATER);
+
+        assertThrows(UnsupportedOperationException.class, () -> enemies.add(stranger));
+        assertThrows(UnsupportedOperationException.class, () -> enemies.remove(0));
+        assertFalse(enemies.contains(stranger));
+        assertEquals(4, enemies.indexOf(enemies.get(4)));
+        assertFalse(battle.getPlayerTeam().contains(enemies.get(0)));
+    }
+
+    @Test
+    @DisplayName("Restore should rebuild the indexes")
+    void testRestoreRefreshesIndexes() {
+        enemies.getLowestHP();
+        BattleSnapshot snapshot = battle.snapshot();
+
+        for (Character c : enemies) {
+            c.takeDamage(9999);
+        }
+        assertEquals(0, enemies.getAliveCount());
+        assertNull(enemies.getLowestHP());
+
+        battle.restore(snapshot);
+        assertEquals(8, enemies.getAliveCount());
+        assertNotNull(enemies.getLowestHP());
+    }
+
+    @Test
+    @DisplayName("AI should pick the same targets from a view and from a plain list")
+    void testAIMatchesPlainList() {
+        enemies.get(2).takeDamage(9999);
+        enemies.get(4).takeDamage(enemies.get(4).getCurrentHP() / 2);
+        Character actor = battle.getPlayerTeam().get(0);
+        List<Character> allies = battle.getPlayerTeam();
+        List<Character> copy = new ArrayList<>(enemies);
+
+        AIStrategy[] strategies = {new MediumAI(), new HardAI()};
+        for (AIStrategy ai : strategies) {
+            BattleAction a = ai.decideAction(actor, allies, enemies);
+            BattleAction b = ai.decideAction(actor, allies, copy);
+            assertEquals(b.getActionType(), a.getActionType());
+            assertSame(b.getTarget(), a.getTarget());
+            assertSame(b.getSkill(), a.getSkill());
+        }
+    }
+
+    @Test
+    @DisplayName("An older view should stay correct after its members join a newer view")
+    void testReusedCharacters() {
+        List<Character> members = new ArrayList<>(enemies);
+        TeamView newer = new TeamView(members.subList(0, 3));
+        Character orc = members.get(1);
+
+        assertEquals(1, enemies.indexOf(orc), "Old view should still find the member");
+        assertEquals(1, newer.indexOf(orc));
+        assertEquals(-1, newer.indexOf(members.get(5)));
+
+        orc.takeDamage(orc.getMaxHP());
+        assertEquals(7, enemies.getAliveCount(), "Old view should see changes it is no longer told about");
+        assertEquals(2, newer.getAliveCount());
+        assertNotSame(orc, enemies.lowest(ATTACK));
+    }
+}
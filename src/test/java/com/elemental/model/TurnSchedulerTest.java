@@ -0,0 +1,91 @@
+package com.elemental.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TurnScheduler Tests")
+class TurnSchedulerTest {
+
+    private TurnScheduler scheduler;
+    private Character warrior; // Speed 15
+    private Character mage;    // Speed 25
+    private Character ranger;  // Speed 30
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new TurnScheduler();
+        warrior = new Character("Warrior", CharacterClass.WARRIOR, Element.FIRE);
+        mage = new Character("Mage", CharacterClass.MAGE, Element.WATER);
+        ranger = new Character("Ranger", CharacterClass.RANGER, Element.EARTH);
+
+        List<Character> players = new ArrayList<>();
+        players.add(warrior);
+        players.add(mage);
+        List<Character> enemies = new ArrayList<>();
+        enemies.add(ranger);
+
+        scheduler.reset(players, enemies);
+        scheduler.startRound();
+    }
+
+    @Test
+    @DisplayName("Should hand out turns by speed, highest first")
+    void testOrderBySpeed() {
+        assertSame(ranger, scheduler.next());
+        assertSame(mage, scheduler.next());
+        assertSame(warrior, scheduler.next());
+        assertNull(scheduler.next());
+        assertTrue(scheduler.isRoundOver());
+    }
+
+    @Test
+    @DisplayName("Dead characters should be skipped")
+    void testSkipDead() {
+        mage.takeDamage(mage.getMaxHP());
+
+        assertSame(ranger, scheduler.next());
+        assertSame(warrior, scheduler.next());
+        assertTrue(scheduler.isRoundOver());
+    }
+
+    @Test
+    @DisplayName("Speed buff should change the order of the next round")
+    void testResortOnSpeedBuff() {
+        // Warrior 15 * 1.3 = 19, still slower than Mage
+        // Mage 25 * 1.3 = 32, now faster than Ranger
+        mage.applyStatusEffect(StatusEffectType.SPEED_BUFF, 3);
+
+        // Current round keeps its order
+        assertSame(ranger, scheduler.next());
+        assertSame(mage, scheduler.next());
+        assertSame(warrior, scheduler.next());
+
+        scheduler.startRound();
+        assertSame(mage, scheduler.next());
+        assertSame(ranger, scheduler.next());
+        assertSame(warrior, scheduler.next());
+    }
+
+    @Test
+    @DisplayName("Characters dead at round start should not act after revive")
+    void testRevivedWaitsForNextRound() {
+        mage.takeDamage(mage.getMaxHP());
+        scheduler.startRound();
+        mage.setCurrentHP(10);
+        mage.setStatus(Status.NORMAL);
+
+        assertSame(ranger, scheduler.next());
+        assertSame(warrior, scheduler.next());
+        assertNull(scheduler.next());
+
+        scheduler.startRound();
+        assertSame(ranger, scheduler.next());
+        assertSame(mage, scheduler.next());
+    }
+}
@@ -1,12 +1,16 @@
 package com.elemental.service;
 
 import com.elemental.model.*;
+import com.elemental.strategy.HardAI;
+import com.elemental.strategy.MediumAI;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -114,5 +118,91 @@ class BattleServiceTest {
     void testNotActiveWhenNoBattle() {
         assertFalse(battleService.isBattleActive());
     }
-}
 
+    @Test
+    @DisplayName("Should host many sessions at once")
+    void testManySessions() {
+        List<BattleSession> created = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            created.add(battleService.createSession(buildTeam("P"), buildTeam("E")));
+        }
+
+        assertEquals(1000, battleService.getSessionCount());
+        for (BattleSession session : created) {
+            assertSame(session, battleService.getSession(session.getId()));
+        }
+    }
+
+    @Test
+    @DisplayName("Should execute actions on a session and record metrics")
+    void testSubmitAction() {
+        BattleSession session = battleService.createSession(buildTeam("P"), buildTeam("E"));
+
+        CompletableFuture<BattleStatus> future = battleService.submit(session.getId(), battle -> {
+            com.elemental.model.Character actor = battle.getNextTurn();
+            BattleAction action = new BattleAction(actor, ActionType.DEFEND);
+            battle.executeAction(action);
+            return battle.getBattleStatus();
+        });
+
+        assertEquals(BattleStatus.ONGOING, future.join());
+        assertEquals(1, session.getTaskCount());
+        assertTrue(session.getMaxTaskNanos() >= 0);
+    }
+
+    @Test
+    @DisplayName("Submitting to an unknown session should fail")
+    void testSubmitUnknownSession() {
+        CompletableFuture<BattleStatus> future = battleService.submitAction("missing",
+                new BattleAction(playerTeam.get(0), ActionType.DEFEND));
+        assertTrue(future.isCompletedExceptionally());
+    }
+
+    @Test
+    @DisplayName("Should evict idle sessions")
+    void testEvictIdleSessions() {
+        battleService.createSession(buildTeam("P"), buildTeam("E"));
+        battleService.startBattle(playerTeam, enemyTeam);
+        assertEquals(2, battleService.getSessionCount());
+
+        assertEquals(0, battleService.evictIdleSessions(1, TimeUnit.HOURS));
+        assertEquals(2, battleService.evictIdleSessions(0, TimeUnit.NANOSECONDS));
+
+        assertEquals(0, battleService.getSessionCount());
+        assertNull(battleService.getCurrentBattle());
+    }
+
+    @Test
+    @DisplayName("Ending a session should remove it")
+    void testEndSession() {
+        BattleSession session = battleService.createSession(buildTeam("P"), buildTeam("E"));
+
+        assertTrue(battleService.endSession(session.getId()));
+        assertNull(battleService.getSession(session.getId()));
+        assertFalse(battleService.endSession(session.getId()));
+    }
+
+    @Test
+    @DisplayName("Auto-battle should resolve the current battle headlessly")
+    void testAutoBattle() {
+        Battle battle = battleService.startBattle(playerTeam, enemyTeam);
+        battle.setRewardsEnabled(false);
+        int logSize = battle.getBattleLog().getAllEntries().size();
+
+        int actions = battleService.autoBattle(new HardAI(),
+                new MediumAI());
+
+        assertTrue(actions > 0);
+        assertNotEquals(BattleStatus.ONGOING, battle.getBattleStatus());
+        assertEquals(logSize, battle.getBattleLog().getAllEntries().size());
+        assertTrue(battle.getBattleLog().isEnabled());
+        assertEquals(0, battleService.autoBattle(new HardAI(),
+                new MediumAI()));
+    }
+
+    private List<com.elemental.model.Character> buildTeam(String prefix) {
+        List<com.elemental.model.Character> team = new ArrayList<>();
+        team.add(new com.elemental.model.Character(prefix + "1", CharacterClass.WARRIOR, Element.FIRE));
+        return team;
+    }
+}
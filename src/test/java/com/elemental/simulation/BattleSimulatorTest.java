@@ -0,0 +1,171 @@
+package com.elemental.simulation;
+
+import com.elemental.model.Battle;
+import com.elemental.model.BattleStatus;
+import com.elemental.model.Character;
+import com.elemental.model.CharacterClass;
+import com.elemental.model.Element;
+import com.elemental.model.Inventory;
+import com.elemental.strategy.EasyAI;
+import com.elemental.strategy.HardAI;
+import com.elemental.strategy.MediumAI;
+import com.elemental.util.BattleRandom;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BattleSimulator Tests")
+class BattleSimulatorTest {
+
+    private TeamSpec players;
+    private TeamSpec enemies;
+
+    @BeforeEach
+    void setUp() {
+        players = TeamSpec.of("Hero", CharacterClass.WARRIOR, Element.FIRE, 5)
+                .with("Healer", CharacterClass.MAGE, Element.WATER, 5);
+        enemies = TeamSpec.of("Orc", CharacterClass.WARRIOR, Element.EARTH, 5)
+                .with("Witch", CharacterClass.MAGE, Element.FIRE, 5);
+    }
+
+    @Test
+    @DisplayName("Should run the requested number of battles")
+    void testSimulateCount() {
+        BattleSimulator simulator = new BattleSimulator();
+        SimulationResult result = simulator.simulate(players, enemies, MediumAI::new, HardAI::new, 1000);
+
+        assertEquals(1000, result.getBattles());
+        assertEquals(1000, result.getPlayerWins() + result.getEnemyWins() + result.getTimeouts());
+
+        long histogramTotal = 0;
+        for (long count : result.getRoundHistogram()) {
+            histogramTotal += count;
+        }
+        assertEquals(1000, histogramTotal);
+    }
+
+    @Test
+    @DisplayName("Both sides should deal damage")
+    void testDamageTotals() {
+        SimulationResult result = new BattleSimulator().simulate(players, enemies, EasyAI::new, EasyAI::new, 200);
+
+        assertTrue(result.getPlayerDamage() > 0);
+        assertTrue(result.getEnemyDamage() > 0);
+        assertTrue(result.getPlayerWinRate() >= 0.0 && result.getPlayerWinRate() <= 1.0);
+    }
+
+    @Test
+    @DisplayName("Should handle zero battles")
+    void testZeroBattles() {
+        SimulationResult result = new BattleSimulator().simulate(players, enemies, EasyAI::new, EasyAI::new, 0);
+        assertEquals(0, result.getBattles());
+        assertEquals(0.0, result.getPlayerWinRate());
+    }
+
+    @Test
+    @DisplayName("Simulations should not touch the global inventory")
+    void testInventoryUntouched() {
+        Inventory.getInstance().reset();
+        Map<String, Integer> before = Inventory.getInstance().getAllItems();
+
+        new BattleSimulator(new ForkJoinPool(4), 50).simulate(players, enemies, HardAI::new, EasyAI::new, 500);
+
+        assertEquals(before, Inventory.getInstance().getAllItems());
+    }
+
+    @Test
+    @DisplayName("Resolve should finish an initialized battle")
+    void testResolve() {
+        Battle battle = new Battle();
+        battle.setRewardsEnabled(false);
+        battle.initializeBattle(players.build(), enemies.build());
+
+        int actions = BattleSimulator.resolve(battle, new MediumAI(), new MediumAI(), 500);
+
+        assertTrue(actions > 0);
+        assertNotEquals(BattleStatus.ONGOING, battle.getBattleStatus());
+    }
+
+    @Test
+    @DisplayName("Resolve should finish a raid-sized battle")
+    void testResolveRaid() {
+        TeamSpec raiders = TeamSpec.of("Raider", CharacterClass.WARRIOR, Element.FIRE, 5);
+        TeamSpec horde = TeamSpec.of("Grunt", CharacterClass.RANGER, Element.EARTH, 5);
+        for (int i = 1; i < 200; i++) {
+            raiders = raiders.with("Raider" + i, CharacterClass.values()[i % 3], Element.values()[i % 3], 5);
+            horde = horde.with("Grunt" + i, CharacterClass.values()[(i + 1) % 3], Element.values()[(i + 1) % 3], 5);
+        }
+        Battle battle = new Battle(new BattleRandom(11L));
+        battle.getBattleLog().setEnabled(false);
+        battle.setRewardsEnabled(false);
+        battle.initializeBattle(raiders.build(), horde.build());
+
+        int actions = BattleSimulator.resolve(battle, new HardAI(), new MediumAI(), 200_000);
+
+        assertTrue(actions > 0);
+        assertNotEquals(BattleStatus.ONGOING, battle.getBattleStatus());
+    }
+
+    @Test
+    @DisplayName("Same base seed should give identical results")
+    void testSeededRunsAreReproducible() {
+        BattleSimulator simulator = new BattleSimulator();
+        SimulationResult first = simulator.simulate(players, enemies, EasyAI::new, EasyAI::new, 2000, 42L);
+        SimulationResult second = simulator.simulate(players, enemies, EasyAI::new, EasyAI::new, 2000, 42L);
+
+        assertEquals(first.getPlayerWins(), second.getPlayerWins());
+        assertEquals(first.getPlayerDamage(), second.getPlayerDamage());
+        assertEquals(first.getEnemyDamage(), second.getEnemyDamage());
+        assertArrayEquals(first.getRoundHistogram(), second.getRoundHistogram());
+    }
+
+    @Test
+    @DisplayName("Replaying a battle seed should give the same battle")
+    void testReplayFromSeed() {
+        BattleSimulator simulator = new BattleSimulator();
+        long seed = BattleRandom.seedFor(7L, 13);
+
+        Battle first = simulator.replay(players, enemies, EasyAI::new, EasyAI::new, seed);
+        Battle second = simulator.replay(players, enemies, EasyAI::new, EasyAI::new, seed);
+
+        assertEquals(first.getBattleStatus(), second.getBattleStatus());
+        assertEquals(first.getTurnNumber(), second.getTurnNumber());
+        List<Character> a = first.getPlayerTeam();
+        List<Character> b = second.getPlayerTeam();
+        for (int i = 0; i < a.size(); i++) {
+            assertEquals(a.get(i).getCurrentHP(), b.get(i).getCurrentHP());
+            assertEquals(a.get(i).getCurrentMP(), b.get(i).getCurrentMP());
+        }
+    }
+
+    @Test
+    @DisplayName("Kernel simulation should match the object-based simulation")
+    void testKernelMatchesBattle() {
+        TeamSpec rangers = TeamSpec.of("Archer", CharacterClass.RANGER, Element.FIRE, 4)
+                .with("Hunter", CharacterClass.RANGER, Element.WATER, 6);
+        BattleSimulator simulator = new BattleSimulator();
+
+        SimulationResult objects = simulator.simulate(rangers, enemies, EasyAI::new, EasyAI::new, 1000, 99L);
+        SimulationResult kernel = simulator.simulateKernel(rangers, enemies, EasyAI::new, EasyAI::new, 1000, 99L);
+
+        assertEquals(objects.getPlayerWins(), kernel.getPlayerWins());
+        assertEquals(objects.getEnemyWins(), kernel.getEnemyWins());
+        assertEquals(objects.getTimeouts(), kernel.getTimeouts());
+        assertEquals(objects.getPlayerDamage(), kernel.getPlayerDamage());
+        assertEquals(objects.getEnemyDamage(), kernel.getEnemyDamage());
+        assertArrayEquals(objects.getRoundHistogram(), kernel.getRoundHistogram());
+    }
+
+    @Test
+    @DisplayName("Should reject invalid levels")
+    void testInvalidLevel() {
+        assertThrows(IllegalArgumentException.class,
+                () -> TeamSpec.of("Bad", CharacterClass.MAGE, Element.FIRE, 0));
+    }
+}
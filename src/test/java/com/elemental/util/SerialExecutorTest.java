@@ -0,0 +1,51 @@
+package com.elemental.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SerialExecutor Tests")
+class SerialExecutorTest {
+
+    @Test
+    @DisplayName("Should run tasks in submission order")
+    void testRunsInOrder() {
+        List<Integer> ran = new ArrayList<>();
+        SerialExecutor executor = new SerialExecutor(Runnable::run);
+
+        for (int i = 0; i < 5; i++) {
+            int task = i;
+            executor.execute(() -> ran.add(task));
+        }
+
+        assertEquals(List.of(0, 1, 2, 3, 4), ran);
+        assertEquals(0, executor.getPendingCount());
+    }
+
+    @Test
+    @DisplayName("A rejected task should not stall the executor")
+    void testRecoversFromRejection() {
+        boolean[] reject = {true};
+        Executor backing = task -> {
+            if (reject[0]) {
+                throw new RejectedExecutionException("Pool shut down");
+            }
+            task.run();
+        };
+        SerialExecutor executor = new SerialExecutor(backing);
+        List<String> ran = new ArrayList<>();
+
+        assertThrows(RejectedExecutionException.class, () -> executor.execute(() -> ran.add("rejected")));
+
+        reject[0] = false;
+        executor.execute(() -> ran.add("next"));
+        assertEquals(List.of("next"), ran, "Executor should keep processing after a rejection");
+        assertEquals(0, executor.getPendingCount());
+    }
+}